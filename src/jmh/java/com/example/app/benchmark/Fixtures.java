@@ -0,0 +1,96 @@
+package com.example.app.benchmark;
+
+import com.example.app.models.Role;
+import com.example.app.models.RoleName;
+import com.example.app.models.Task;
+import com.example.app.models.TaskComment;
+import com.example.app.models.TaskPriority;
+import com.example.app.models.TaskStatus;
+import com.example.app.models.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+final class Fixtures {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private Fixtures() {
+    }
+
+    static User user(long id) {
+        var role = new Role();
+        role.setId(1L);
+        role.setRoleName(RoleName.USER);
+
+        var user = new User();
+        user.setId(id);
+        user.setFirstName("first" + id);
+        user.setLastName("last" + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setPasswordDigest("digest");
+        user.setRoles(Set.of(role));
+        return user;
+    }
+
+    static Task task(long id, User author, User assignee, int comments) {
+        var status = new TaskStatus();
+        status.setId(1L);
+        status.setName("in progress");
+
+        var priority = new TaskPriority();
+        priority.setId(1L);
+        priority.setPriorityName("High");
+
+        var task = new Task();
+        task.setId(id);
+        task.setTitle("task " + id);
+        task.setDescription("description of task " + id);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setAuthor(author);
+        task.setAssignee(assignee);
+        task.setCreatedAt(NOW);
+        task.setUpdatedAt(NOW);
+
+        var taskComments = new ArrayList<TaskComment>(comments);
+        for (int i = 0; i < comments; i++) {
+            var comment = new TaskComment();
+            comment.setId(id * 100 + i);
+            comment.setTitle("comment " + i);
+            comment.setDescription("comment text " + i);
+            comment.setAuthor(assignee);
+            comment.setTask(task);
+            comment.setCreatedAt(NOW);
+            comment.setUpdatedAt(NOW);
+            taskComments.add(comment);
+        }
+        task.setTaskComments(taskComments);
+        return task;
+    }
+
+    static User userWithTasks(long id, int tasks) {
+        var user = user(id);
+        var other = user(id + 1);
+        var tasksAsAuthor = new ArrayList<Task>(tasks);
+        var tasksAsAssignee = new ArrayList<Task>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            tasksAsAuthor.add(task(i, user, other, 2));
+            tasksAsAssignee.add(task(tasks + i, other, user, 2));
+        }
+        user.setTasksAsAuthor(tasksAsAuthor);
+        user.setTasksAsAssignee(tasksAsAssignee);
+        return user;
+    }
+
+    static List<Task> tasks(int count) {
+        var author = user(1);
+        var assignee = user(2);
+        var tasks = new ArrayList<Task>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(i, author, assignee, 3));
+        }
+        return tasks;
+    }
+}
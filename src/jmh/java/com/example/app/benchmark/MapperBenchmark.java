@@ -0,0 +1,50 @@
+package com.example.app.benchmark;
+
+import com.example.app.dto.task.TaskDTO;
+import com.example.app.dto.user.UserDTO;
+import com.example.app.mappers.TaskMapper;
+import com.example.app.mappers.UserMapper;
+import com.example.app.models.Task;
+import com.example.app.models.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+    @Param({"10", "100"})
+    private int tasksPerUser;
+
+    private TaskMapper taskMapper;
+    private UserMapper userMapper;
+    private Task task;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        taskMapper = application.getBean(TaskMapper.class);
+        userMapper = application.getBean(UserMapper.class);
+        task = Fixtures.task(1, Fixtures.user(1), Fixtures.user(2), 3);
+        user = Fixtures.userWithTasks(1, tasksPerUser);
+    }
+
+    @Benchmark
+    public TaskDTO mapTask() {
+        return taskMapper.map(task);
+    }
+
+    @Benchmark
+    public UserDTO mapUserWithTasks() {
+        return userMapper.map(user);
+    }
+}
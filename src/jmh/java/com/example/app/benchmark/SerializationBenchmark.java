@@ -0,0 +1,48 @@
+package com.example.app.benchmark;
+
+import com.example.app.dto.task.TaskDTO;
+import com.example.app.dto.user.UserDTO;
+import com.example.app.mappers.TaskMapper;
+import com.example.app.mappers.UserMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes DTOs with the ObjectMapper built from JacksonConfig, the same one the controllers use.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+    private ObjectMapper objectMapper;
+    private TaskDTO task;
+    private UserDTO user;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        objectMapper = application.getBean(ObjectMapper.class);
+        task = application.getBean(TaskMapper.class)
+                .map(Fixtures.task(1, Fixtures.user(1), Fixtures.user(2), 3));
+        user = application.getBean(UserMapper.class).map(Fixtures.userWithTasks(1, 10));
+    }
+
+    @Benchmark
+    public byte[] serializeTask() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public byte[] serializeUser() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+}
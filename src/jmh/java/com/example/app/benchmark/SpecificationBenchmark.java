@@ -0,0 +1,52 @@
+package com.example.app.benchmark;
+
+import com.example.app.dto.specificationDTO.TaskParamDTO;
+import com.example.app.models.Task;
+import com.example.app.specification.TaskSpecification;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpecificationBenchmark {
+    private TaskSpecification taskSpecification;
+    private CriteriaBuilder criteriaBuilder;
+    private TaskParamDTO params;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        taskSpecification = application.getBean(TaskSpecification.class);
+        criteriaBuilder = application.getBean(EntityManagerFactory.class).getCriteriaBuilder();
+
+        params = new TaskParamDTO();
+        params.setAuthorId(1L);
+        params.setAssigneeId(2L);
+        params.setStatusCont("progress");
+        params.setPriorityCont("High");
+    }
+
+    @Benchmark
+    public Specification<Task> build() {
+        return taskSpecification.build(params, null);
+    }
+
+    @Benchmark
+    public Predicate buildPredicate() {
+        var query = criteriaBuilder.createQuery(Task.class);
+        var root = query.from(Task.class);
+        return taskSpecification.build(params, null).toPredicate(root, query, criteriaBuilder);
+    }
+}
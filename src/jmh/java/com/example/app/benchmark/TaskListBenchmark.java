@@ -0,0 +1,99 @@
+package com.example.app.benchmark;
+
+import com.example.app.models.Task;
+import com.example.app.models.TaskPriority;
+import com.example.app.models.TaskStatus;
+import com.example.app.models.User;
+import com.example.app.repositories.TaskPriorityRepository;
+import com.example.app.repositories.TaskRepository;
+import com.example.app.repositories.TaskStatusRepository;
+import com.example.app.repositories.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs GET /api/tasks end to end through MockMvc, security filters included, against H2.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListBenchmark {
+    private static final int TASKS = 1000;
+
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        mockMvc = MockMvcBuilders.webAppContextSetup(application.getContext())
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+
+        var status = new TaskStatus();
+        status.setName("benchmark status");
+        application.getBean(TaskStatusRepository.class).save(status);
+
+        var priority = new TaskPriority();
+        priority.setPriorityName("benchmark priority");
+        application.getBean(TaskPriorityRepository.class).save(priority);
+
+        var userRepository = application.getBean(UserRepository.class);
+        User author = userRepository.save(benchmarkUser("author"));
+        User assignee = userRepository.save(benchmarkUser("assignee"));
+
+        var tasks = new ArrayList<Task>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            var task = new Task();
+            task.setTitle("benchmark task " + i);
+            task.setDescription("benchmark description " + i);
+            task.setStatus(status);
+            task.setPriority(priority);
+            task.setAuthor(author);
+            task.setAssignee(assignee);
+            tasks.add(task);
+        }
+        application.getBean(TaskRepository.class).saveAll(tasks);
+    }
+
+    @Benchmark
+    public String listFirstPage() throws Exception {
+        return mockMvc.perform(get("/api/tasks").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    @Benchmark
+    public String listFirstPageWithCursor() throws Exception {
+        return mockMvc.perform(get("/api/tasks?cursor=").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    private static User benchmarkUser(String name) {
+        var user = new User();
+        user.setFirstName(name);
+        user.setLastName(name);
+        user.setEmail(name + "@benchmark.example.com");
+        user.setPasswordDigest("digest");
+        return user;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.app.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Short-lived memory of successful username/password authentications. Entries are keyed by an HMAC of the
+ * credentials under a random per-process key, so neither passwords nor plain hashes of them are kept.
+ */
+@Slf4j
+@Component
+public class CredentialCache {
+    private static final String HMAC = "HmacSHA256";
+
+    private final Cache<String, CachedAuthentication> authentications;
+    private final SecretKeySpec key;
+    private final AtomicLong generation = new AtomicLong();
+
+    public CredentialCache(@Value("${cache.credentials.ttl:60s}") Duration ttl,
+                           @Value("${cache.credentials.max-size:10000}") long maxSize) {
+        this.authentications = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+
+        var secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, HMAC);
+    }
+
+    public Authentication get(String username, String password) {
+        var cached = authentications.getIfPresent(digest(username, password));
+        return cached == null ? null : cached.authentication();
+    }
+
+    /** Taken before authenticating; put skips the result if a user was evicted in between. */
+    public long generation() {
+        return generation.get();
+    }
+
+    public void put(String username, String password, Authentication authentication, long seen) {
+        var cached = new CachedAuthentication(username, authentication);
+        authentications.asMap().compute(digest(username, password),
+                (key, current) -> generation.get() == seen ? cached : current);
+    }
+
+    public void evictUser(String username) {
+        log.info("Evicting cached credentials for user with email: {}", username);
+        generation.incrementAndGet();
+        authentications.asMap().values().removeIf(cached -> cached.username().equals(username));
+    }
+
+    private String digest(String username, String password) {
+        try {
+            var mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(HMAC + " is not available", ex);
+        }
+    }
+
+    private record CachedAuthentication(String username, Authentication authentication) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.app.component;
+
+import com.example.app.models.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends every batch to a file, one JSON object per line, and syncs it before the batch counts as delivered.
+ */
+@RequiredArgsConstructor
+public class FileOutboxSink implements OutboxSink {
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) throws IOException {
+        var lines = new StringBuilder();
+        for (var event : events) {
+            var node = objectMapper.createObjectNode()
+                    .put("id", event.getId())
+                    .put("type", event.getEventType())
+                    .put("task_id", event.getAggregateId())
+                    .put("created_at", event.getCreatedAt().toString());
+            node.set("payload", objectMapper.readTree(event.getPayload()));
+            lines.append(objectMapper.writeValueAsString(node)).append('\n');
+        }
+        try (var channel = Files.newByteChannel(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND, StandardOpenOption.DSYNC)) {
+            var buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+}
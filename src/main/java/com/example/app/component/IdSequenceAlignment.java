@@ -0,0 +1,52 @@
+package com.example.app.component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Tasks and comments take their ids from pooled sequences that hand out blocks of ALLOCATION_SIZE. On a database
+ * filled while those ids were identity columns, ddl-auto creates the sequences starting at 1, so before anything
+ * is inserted each sequence is set to step by the block size and moved past the highest id already in its table.
+ * The sequence is never moved backwards, so running this on every start and on several nodes is harmless.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdSequenceAlignment {
+    /** Must match allocationSize of the @SequenceGenerator on Task and TaskComment. */
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "tasks_seq", "tasks",
+            "task_comments_seq", "task_comments"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        var database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(database)) {
+            log.info("Skipping id sequence alignment on {}", database);
+            return;
+        }
+
+        SEQUENCES.forEach((sequence, table) -> {
+            jdbcTemplate.execute("alter sequence " + sequence + " increment by " + ALLOCATION_SIZE);
+            // the pooled optimizer takes the ids up to the returned value, so the next block starts past max(id)
+            var value = jdbcTemplate.queryForObject("select setval('" + sequence + "', greatest("
+                    + "(select coalesce(max(id), 1) from " + table + "), "
+                    + "(select last_value from " + sequence + ")))", Long.class);
+            log.info("Sequence {} aligned with table {} at {}", sequence, table, value);
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.app.component;
+
+import com.example.app.models.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+@Slf4j
+public class LoggingOutboxSink implements OutboxSink {
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        events.forEach(event -> log.info("Outbox event {} {} for task {}: {}",
+                event.getId(), event.getEventType(), event.getAggregateId(), event.getPayload()));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.app.component;
+
+import com.example.app.repositories.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Drains the outbox into the sink in batches, one transaction per batch. The batch rows stay locked until the sink
+ * has accepted them and they are marked delivered; relays on other nodes skip locked rows and take the next ones.
+ * Delivery is at least once, and with several nodes batches can reach the sink out of id order.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+    private final OutboxEventRepository outboxRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter delivered;
+    private final Counter failed;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-batches:50}")
+    private int maxBatches;
+
+    @Value("${outbox.retention:1d}")
+    private Duration retention;
+
+    public OutboxRelay(OutboxEventRepository outboxRepository, OutboxSink sink,
+                       TransactionTemplate transactionTemplate, MeterRegistry registry) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.delivered = Counter.builder("outbox.events").tag("result", "delivered").register(registry);
+        this.failed = Counter.builder("outbox.events").tag("result", "failed").register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:1s}")
+    public void relay() {
+        for (int run = 0; run < maxBatches; run++) {
+            Integer relayed;
+            try {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } catch (RuntimeException ex) {
+                log.error("Outbox relay failed, the batch will be retried", ex);
+                return;
+            }
+            if (relayed == null || relayed < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.prune-interval:1h}")
+    @Transactional
+    public void prune() {
+        var deleted = outboxRepository.deleteDeliveredBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Pruned {} outbox events delivered more than {} ago", deleted, retention);
+        }
+    }
+
+    private int relayBatch() {
+        var batch = outboxRepository.lockUndelivered(PageRequest.ofSize(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            sink.publish(batch);
+        } catch (Exception ex) {
+            failed.increment(batch.size());
+            throw new IllegalStateException("Outbox sink rejected " + batch.size()
+                    + " events starting at id: " + batch.get(0).getId(), ex);
+        }
+        var now = LocalDateTime.now();
+        batch.forEach(event -> event.setDeliveredAt(now));
+        delivered.increment(batch.size());
+        return batch.size();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.app.component;
+
+import com.example.app.models.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination of relayed outbox events. A batch is delivered at least once: when publish throws, or the node dies
+ * before the batch is marked delivered, the same events are offered again, so receivers deduplicate by event id.
+ */
+public interface OutboxSink {
+    void publish(List<OutboxEvent> events) throws Exception;
+}
@@ -0,0 +1,52 @@
+package com.example.app.component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Logs JFR jdk.VirtualThreadPinned events, i.e. virtual threads that blocked while holding a monitor
+ * (synchronized) or inside native code, together with the stack that pinned them.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "diagnostics.pinned-threads.enabled", havingValue = "true")
+public class PinnedThreadMonitor {
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 15;
+
+    private final RecordingStream recording = new RecordingStream();
+
+    public PinnedThreadMonitor(@Value("${diagnostics.pinned-threads.threshold:20ms}") Duration threshold) {
+        recording.enable(EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(EVENT, this::report);
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info("Watching for pinned virtual threads");
+        recording.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        recording.close();
+    }
+
+    private void report(RecordedEvent event) {
+        var stackTrace = event.getStackTrace() == null ? "" : event.getStackTrace().getFrames().stream()
+                .limit(MAX_FRAMES)
+                .map(frame -> "\n\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining());
+        log.warn("Virtual thread pinned for {} ms{}", event.getDuration().toMillis(), stackTrace);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.app.component;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Marks the current request to read from the primary even when a replica is configured and in sync.
+ * Outside of a request the mark is not kept.
+ */
+public final class PrimaryReads {
+    private static final String ATTRIBUTE = PrimaryReads.class.getName();
+
+    private PrimaryReads() {
+    }
+
+    public static void require() {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    public static boolean isRequired() {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null && attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.app.component;
+
+import com.example.app.exception.ResourceNotFoundException;
+import com.example.app.models.Role;
+import com.example.app.models.RoleName;
+import com.example.app.repositories.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class PrincipalCache {
+    private final UserRepository userRepository;
+    private final Cache<String, CachedPrincipal> principals;
+    /** Bumped by every eviction, so a load that overlapped one is not written back. */
+    private final AtomicLong generation = new AtomicLong();
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${cache.principal.ttl:5m}") Duration ttl,
+                          @Value("${cache.principal.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.principals = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public CachedPrincipal get(String email) {
+        var principal = principals.getIfPresent(email);
+        if (principal != null) {
+            return principal;
+        }
+        // loaded outside the cache's compute lock, so a virtual thread waiting on JDBC never pins its carrier;
+        // an eviction that happened meanwhile may have made the load stale, and then it is not cached
+        var seen = generation.get();
+        var loaded = load(email);
+        principals.asMap().compute(email, (key, current) -> generation.get() == seen ? loaded : current);
+        return loaded;
+    }
+
+    public boolean isUser(String email, Long id) {
+        return matches(email, principal -> principal.id().equals(id));
+    }
+
+    public boolean matches(String email, Predicate<CachedPrincipal> check) {
+        var principal = get(email);
+        if (check.test(principal)) {
+            return true;
+        }
+        if (userRepository.existsById(principal.id())) {
+            return false;
+        }
+        // the cached account is gone, so it may have been recreated under the same email since
+        principals.invalidate(email);
+        return check.test(get(email));
+    }
+
+    public void evictUser(Long id) {
+        evict(id);
+        // a request may load the old row between this eviction and the commit of the change
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(id);
+                }
+            });
+        }
+    }
+
+    private void evict(Long id) {
+        log.info("Evicting cached principal for user with id: {}", id);
+        generation.incrementAndGet();
+        principals.asMap().values().removeIf(principal -> principal.id().equals(id));
+    }
+
+    private CachedPrincipal load(String email) {
+        log.info("Loading principal with email: {}", email);
+        var user = userRepository.findByEmail(email)
+                .orElseThrow(() -> {
+                    log.error("User with email: {} not found", email);
+                    return new ResourceNotFoundException("User with email: " + email + " not found");
+                });
+
+        var roles = user.getRoles().stream()
+                .map(Role::getRoleName)
+                .collect(Collectors.toUnmodifiableSet());
+        return new CachedPrincipal(user.getId(), user.getEmail(), user.getPasswordDigest(), roles,
+                List.copyOf(user.getAuthorities()));
+    }
+
+    public record CachedPrincipal(Long id, String email, String passwordDigest, Set<RoleName> roles,
+                                  Collection<? extends GrantedAuthority> authorities) {
+        public boolean isAdmin() {
+            return roles.contains(RoleName.ADMIN);
+        }
+
+        public UserDetails toUserDetails() {
+            return org.springframework.security.core.userdetails.User.withUsername(email)
+                    .password(passwordDigest)
+                    .authorities(authorities)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.app.component;
+
+import com.example.app.exception.ResourceNotFoundException;
+import com.example.app.models.Role;
+import com.example.app.models.RoleName;
+import com.example.app.models.TaskPriority;
+import com.example.app.models.TaskStatus;
+import com.example.app.repositories.RoleRepository;
+import com.example.app.repositories.TaskPriorityRepository;
+import com.example.app.repositories.TaskStatusRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Name to id cache for task statuses, priorities and roles.
+ * On a hit a detached copy carrying the id and name is returned, so writes can link the row
+ * and map the response without selecting it. Statuses and priorities are small dictionaries and are
+ * loaded whole, which also lets task filters resolve name fragments to ids without touching the database.
+ * Local writes evict a dictionary at once; writes on other nodes show up when it expires after the ttl.
+ * A name or fragment that is still unknown after a reload is remembered for the miss-ttl, so repeated
+ * lookups of it don't reload the dictionary each time.
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+    private final RoleRepository roleRepository;
+
+    private final Dictionary statuses;
+    private final Dictionary priorities;
+    private final Map<RoleName, Long> roleIds = new ConcurrentHashMap<>();
+
+    private final Counter roleHits;
+    private final Counter roleMisses;
+
+    public ReferenceDataCache(TaskStatusRepository taskStatusRepository,
+                              TaskPriorityRepository taskPriorityRepository,
+                              RoleRepository roleRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${cache.reference.ttl:1m}") Duration ttl,
+                              @Value("${cache.reference.miss-ttl:5s}") Duration missTtl) {
+        this.roleRepository = roleRepository;
+
+        this.statuses = new Dictionary("status", ttl, missTtl, meterRegistry,
+                () -> taskStatusRepository.findAll().stream()
+                        .collect(Collectors.toUnmodifiableMap(TaskStatus::getName, TaskStatus::getId)));
+        this.priorities = new Dictionary("priority", ttl, missTtl, meterRegistry,
+                () -> taskPriorityRepository.findAll().stream()
+                        .collect(Collectors.toUnmodifiableMap(TaskPriority::getPriorityName, TaskPriority::getId)));
+        this.roleHits = counter(meterRegistry, "role", "hit");
+        this.roleMisses = counter(meterRegistry, "role", "miss");
+    }
+
+    public TaskStatus findStatus(String name) {
+        var id = statuses.find(name);
+        if (id == null) {
+            throw new ResourceNotFoundException("Task status with name: " + name + " not found");
+        }
+
+        var status = new TaskStatus();
+        status.setId(id);
+        status.setName(name);
+        return status;
+    }
+
+    public TaskPriority findPriority(String name) {
+        var id = priorities.find(name);
+        if (id == null) {
+            throw new ResourceNotFoundException("Task priority with name: " + name + " not found");
+        }
+
+        var priority = new TaskPriority();
+        priority.setId(id);
+        priority.setPriorityName(name);
+        return priority;
+    }
+
+    /**
+     * Ids of the statuses whose name contains the fragment, ignoring case.
+     */
+    public Set<Long> findStatusIds(String nameFragment) {
+        return statuses.matching(nameFragment);
+    }
+
+    /**
+     * Ids of the priorities whose name contains the fragment, ignoring case.
+     */
+    public Set<Long> findPriorityIds(String nameFragment) {
+        return priorities.matching(nameFragment);
+    }
+
+    public Map<Long, String> statusNames() {
+        return byId(statuses.ids());
+    }
+
+    public Map<Long, String> priorityNames() {
+        return byId(priorities.ids());
+    }
+
+    public Role findRole(RoleName roleName) {
+        var id = roleIds.get(roleName);
+        if (id != null) {
+            roleHits.increment();
+            var role = new Role();
+            role.setId(id);
+            role.setRoleName(roleName);
+            return role;
+        }
+
+        roleMisses.increment();
+        var role = roleRepository.findByRoleName(roleName)
+                .orElseThrow(() -> new ResourceNotFoundException("Role with name: " + roleName + " not found"));
+        roleIds.put(roleName, role.getId());
+        return role;
+    }
+
+    public void evictStatuses() {
+        log.info("Evicting cached task statuses");
+        statuses.evict();
+        afterCompletion(statuses::evict);
+    }
+
+    public void evictPriorities() {
+        log.info("Evicting cached task priorities");
+        priorities.evict();
+        afterCompletion(priorities::evict);
+    }
+
+    // a dictionary reloaded while the write was still in flight must not outlive its commit or rollback
+    private static void afterCompletion(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private static Map<Long, String> byId(Map<String, Long> ids) {
+        return ids.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getValue, Map.Entry::getKey));
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String dictionary, String result) {
+        return Counter.builder("reference.cache.requests")
+                .tag("dictionary", dictionary)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class Dictionary {
+        private static final String ALL = "all";
+
+        private final Supplier<Map<String, Long>> loader;
+        private final Cache<String, Map<String, Long>> ids;
+        /** Names prefixed with "=" and fragments prefixed with "~" that a fresh reload did not know. */
+        private final Cache<String, Boolean> misses;
+        /** Bumped by every eviction, so a load that overlapped one is not written back. */
+        private final AtomicLong generation = new AtomicLong();
+        private final Counter hits;
+        private final Counter loads;
+
+        private Dictionary(String name, Duration ttl, Duration missTtl, MeterRegistry meterRegistry,
+                           Supplier<Map<String, Long>> loader) {
+            this.loader = loader;
+            this.ids = Caffeine.newBuilder()
+                    .expireAfterWrite(ttl)
+                    .build();
+            this.misses = Caffeine.newBuilder()
+                    .expireAfterWrite(missTtl)
+                    .maximumSize(1000)
+                    .build();
+            this.hits = counter(meterRegistry, name, "hit");
+            this.loads = counter(meterRegistry, name, "miss");
+        }
+
+        Map<String, Long> ids() {
+            var cached = ids.getIfPresent(ALL);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            return load();
+        }
+
+        Long find(String name) {
+            var id = ids().get(name);
+            if (id != null || misses.getIfPresent("=" + name) != null) {
+                return id;
+            }
+            // the entry may have been added since the dictionary was loaded
+            id = load().get(name);
+            if (id == null) {
+                misses.put("=" + name, Boolean.TRUE);
+            }
+            return id;
+        }
+
+        Set<Long> matching(String nameFragment) {
+            var fragment = nameFragment.toLowerCase();
+            var matched = matching(ids(), fragment);
+            if (!matched.isEmpty() || misses.getIfPresent("~" + fragment) != null) {
+                return matched;
+            }
+            matched = matching(load(), fragment);
+            if (matched.isEmpty()) {
+                misses.put("~" + fragment, Boolean.TRUE);
+            }
+            return matched;
+        }
+
+        void evict() {
+            generation.incrementAndGet();
+            ids.invalidateAll();
+            misses.invalidateAll();
+        }
+
+        // loaded outside the cache's compute lock, like PrincipalCache, so a carrier is never pinned on JDBC
+        private Map<String, Long> load() {
+            loads.increment();
+            var seen = generation.get();
+            var loaded = loader.get();
+            ids.asMap().compute(ALL, (key, current) -> generation.get() == seen ? loaded : current);
+            return loaded;
+        }
+
+        private static Set<Long> matching(Map<String, Long> ids, String fragment) {
+            return ids.entrySet().stream()
+                    .filter(entry -> entry.getKey().toLowerCase().contains(fragment))
+                    .map(Map.Entry::getValue)
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    }
+}
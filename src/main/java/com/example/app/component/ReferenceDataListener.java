@@ -0,0 +1,31 @@
+package com.example.app.component;
+
+import com.example.app.models.TaskPriority;
+import com.example.app.models.TaskStatus;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts the cached status and priority dictionaries whenever one of their rows is written,
+ * whichever code path the write comes from.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataListener {
+    private final ObjectProvider<ReferenceDataCache> referenceDataCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void changed(Object entity) {
+        if (entity instanceof TaskStatus) {
+            referenceDataCache.getObject().evictStatuses();
+        } else if (entity instanceof TaskPriority) {
+            referenceDataCache.getObject().evictPriorities();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.app.component;
+
+import com.example.app.models.ResourceVersion;
+import com.example.app.repositories.ResourceVersionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Versions of representations that no single row's updatedAt covers: task lists and the status/priority
+ * dictionaries. Each resource has a row in {@code resource_versions} that a changing transaction bumps right
+ * before it commits, so every node (and a replica, once it has replayed the change) sees the same version.
+ * The ETag carries the counters; Last-Modified only has a resolution of a second and is a fallback for
+ * clients that don't send If-None-Match.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResourceVersions {
+    public enum Resource {
+        TASKS, COMMENTS, STATUSES, PRIORITIES
+    }
+
+    private final ResourceVersionRepository versionRepository;
+
+    @PostConstruct
+    void createMissing() {
+        var existing = versionRepository.findAll().stream()
+                .map(ResourceVersion::getName)
+                .collect(Collectors.toSet());
+        for (Resource resource : Resource.values()) {
+            if (existing.contains(resource.name())) {
+                continue;
+            }
+            try {
+                versionRepository.saveAndFlush(new ResourceVersion(resource.name(), now()));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Version row {} was created by another node", resource);
+            }
+        }
+    }
+
+    /**
+     * Bumps the version of a resource in the current transaction. The rows are updated in enum order once, right
+     * before the commit, so concurrent writers hold the row locks only for the commit and never deadlock on them.
+     */
+    public void changed(Resource resource) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(EnumSet.of(resource));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        var pending = (Set<Resource>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            var changed = EnumSet.noneOf(Resource.class);
+            TransactionSynchronizationManager.bindResource(this, changed);
+            TransactionSynchronizationManager.registerSynchronization(new PendingChanges(changed));
+            pending = changed;
+        }
+        pending.add(resource);
+    }
+
+    public Instant lastModified(Resource resource) {
+        return versionRepository.findById(resource.name())
+                .map(version -> toInstant(version.getUpdatedAt()))
+                .orElse(Instant.EPOCH);
+    }
+
+    /**
+     * Builds a tag from the given key and the versions it depends on. Read the tag before the body: the body is
+     * then never older than the versions it is served under, even when it comes from a different replica state.
+     */
+    public VersionTag tag(String key, Instant modified, Resource... dependsOn) {
+        var versions = versionRepository.findAllById(Arrays.stream(dependsOn).map(Resource::name).toList()).stream()
+                .collect(Collectors.toMap(ResourceVersion::getName, Function.identity()));
+        var etag = new StringBuilder(key);
+        var lastModified = modified;
+        for (Resource resource : dependsOn) {
+            var version = versions.get(resource.name());
+            if (version == null) {
+                etag.append(".0");
+                continue;
+            }
+            etag.append('.').append(version.getVersion());
+            var updatedAt = toInstant(version.getUpdatedAt());
+            if (updatedAt.isAfter(lastModified)) {
+                lastModified = updatedAt;
+            }
+        }
+        return new VersionTag(etag.toString(), lastModified);
+    }
+
+    public static Instant toInstant(LocalDateTime timestamp) {
+        return timestamp == null ? Instant.EPOCH : timestamp.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    public static String stamp(LocalDateTime timestamp) {
+        var instant = toInstant(timestamp);
+        return Long.toString(instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000, Character.MAX_RADIX);
+    }
+
+    private void increment(Set<Resource> resources) {
+        var now = now();
+        for (Resource resource : resources) {
+            versionRepository.increment(resource.name(), now);
+        }
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+        private final Set<Resource> changed;
+
+        private PendingChanges(Set<Resource> changed) {
+            this.changed = changed;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(ResourceVersions.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(ResourceVersions.this, changed);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            increment(changed);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ResourceVersions.this);
+        }
+    }
+
+    public record VersionTag(String etag, Instant lastModified) {
+        public VersionTag notBefore(Instant instant) {
+            return instant.isAfter(lastModified) ? new VersionTag(etag, instant) : this;
+        }
+
+        /**
+         * Sets ETag and Last-Modified on the response and answers 304 when the client's copy is still current.
+         */
+        public boolean checkNotModified(WebRequest request) {
+            return request.checkNotModified(etag, lastModified.toEpochMilli());
+        }
+    }
+}
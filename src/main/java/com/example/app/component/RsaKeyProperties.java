@@ -3,6 +3,7 @@ package com.example.app.component;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
 import java.security.interfaces.RSAPrivateKey;
@@ -15,4 +16,12 @@ import java.security.interfaces.RSAPublicKey;
 public class RsaKeyProperties {
     private RSAPublicKey publicKey;
     private RSAPrivateKey privateKey;
+
+    /**
+     * Signature algorithm for issued tokens: RS256 (default) or ES256. ES256 needs the P-256 key pair below,
+     * as PEM files in X.509 (public) and PKCS#8 (private) encoding.
+     */
+    private String algorithm = "RS256";
+    private Resource ecPublicKey;
+    private Resource ecPrivateKey;
 }
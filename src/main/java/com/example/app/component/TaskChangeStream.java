@@ -0,0 +1,207 @@
+package com.example.app.component;
+
+import com.example.app.dto.task.TaskChangeEvent;
+import com.example.app.specification.TaskFilter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans committed task and comment changes out to Server-Sent Events subscribers.
+ * Every subscriber has a bounded buffer drained by its own sender, so a slow client never holds up the writer;
+ * a client whose buffer overflows is disconnected and can resume with Last-Event-ID from the recent history.
+ * An id from before a restart or older than the history gets a reset event, after which the client reloads.
+ * Fan-out and history are process-local: a subscriber sees only changes committed on the node it is connected to,
+ * and an id issued by another node gets a reset. With several nodes, clients have to stick to one node or use the
+ * outbox (see OutboxRelay) for cross-node delivery.
+ */
+@Slf4j
+@Component
+public class TaskChangeStream {
+    private static final String RESET = "reset";
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Deque<Published> history = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private long sequence;
+
+    @Value("${tasks.events.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${tasks.events.history-size:1000}")
+    private int historySize;
+
+    @Value("${tasks.events.timeout:30m}")
+    private Duration timeout;
+
+    private record Published(long sequence, String id, TaskChangeEvent event) {
+    }
+
+    public void publish(TaskChangeEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(event);
+            }
+        });
+    }
+
+    public SseEmitter subscribe(TaskFilter filter, String lastEventId) {
+        var subscriber = new Subscriber(new SseEmitter(timeout.toMillis()), filter);
+        subscriber.emitter.onCompletion(subscriber::disconnect);
+        subscriber.emitter.onTimeout(subscriber::disconnect);
+        subscriber.emitter.onError(ex -> subscriber.disconnect());
+
+        synchronized (history) {
+            if (lastEventId != null && !lastEventId.isEmpty()) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        // disconnect marks the subscriber before removing it, so one that ended meanwhile is not left registered
+        if (subscriber.closed) {
+            subscribers.remove(subscriber);
+        }
+        log.info("Task change subscriber connected, {} subscribers", subscribers.size());
+        return subscriber.emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.events.heartbeat-interval:30s}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.enqueue(SseEmitter.event().comment("keep-alive")));
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        sender.shutdownNow();
+    }
+
+    private void dispatch(TaskChangeEvent event) {
+        synchronized (history) {
+            var published = new Published(++sequence, epoch + "-" + sequence, event);
+            history.addLast(published);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.offer(published));
+        }
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        var separator = lastEventId.lastIndexOf('-');
+        long after;
+        try {
+            after = separator < 0 || !epoch.equals(lastEventId.substring(0, separator))
+                    ? -1
+                    : Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            after = -1;
+        }
+
+        var oldest = history.isEmpty() ? sequence + 1 : history.getFirst().sequence();
+        if (after < oldest - 1 || after > sequence) {
+            log.info("Task change subscriber cannot resume after event: {}, sending reset", lastEventId);
+            subscriber.enqueue(SseEmitter.event().name(RESET).data(RESET));
+            return;
+        }
+        var resumeAfter = after;
+        var missed = history.stream()
+                .filter(published -> published.sequence() > resumeAfter && subscriber.accepts(published.event()))
+                .toList();
+        // a backlog larger than the buffer would disconnect the subscriber before it gets its stream
+        if (missed.size() > bufferSize) {
+            log.info("Task change subscriber missed {} events after: {}, sending reset", missed.size(), lastEventId);
+            subscriber.enqueue(SseEmitter.event().name(RESET).data(RESET));
+            return;
+        }
+        missed.forEach(subscriber::offer);
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final TaskFilter filter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, TaskFilter filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+        }
+
+        boolean accepts(TaskChangeEvent event) {
+            return filter.matches(event.authorId(), event.assigneeId(), event.statusId(), event.priorityId());
+        }
+
+        void disconnect() {
+            closed = true;
+            subscribers.remove(this);
+            buffer.clear();
+        }
+
+        void offer(Published published) {
+            var event = published.event();
+            if (accepts(event)) {
+                enqueue(SseEmitter.event()
+                        .id(published.id())
+                        .name(event.name())
+                        .data(event, MediaType.APPLICATION_JSON));
+            }
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (!buffer.offer(event)) {
+                log.warn("Task change subscriber fell {} events behind, disconnecting it", bufferSize);
+                disconnect();
+                emitter.complete();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                log.info("Task change subscriber disconnected: {}", ex.getMessage());
+                disconnect();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // an event offered between the last poll and the reset of the flag would otherwise wait for the next one
+            if (!buffer.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.app.component;
+
+import com.example.app.dto.task.TaskCount;
+import com.example.app.models.Task;
+import com.example.app.repositories.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Task counts by status, priority and assignee, kept in memory so dashboards can read them without a count query.
+ * TaskService and TaskBulkService report every write, applied after its transaction commits; a periodic
+ * reconciliation replaces the counts with the database's, so drift from writes made elsewhere is bounded by
+ * tasks.stats.reconcile-interval.
+ * The reconciliation counts in one repeatable-read transaction on the primary. Writes reported while it runs are
+ * replayed onto its result unless its snapshot already holds them, which is decided by the task rows in that same
+ * snapshot: an insert is seen if the row is there, a delete if it is gone, an update if the row is at least as new.
+ * The counts are per node: a write made on another node reaches them only with the next reconciliation, and
+ * {@link Snapshot#reconciledAt()} tells clients how old that is. TaskCountersReconciliation schedules the runs.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskCounters {
+    private static final int STAMP_BATCH_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+
+    // applying a change shares this lock, swapping in a reconciled result takes it exclusively
+    private final ReadWriteLock swap = new ReentrantReadWriteLock();
+    private final Lock reconciling = new ReentrantLock();
+    private volatile Counts current = new Counts();
+    private volatile Queue<Change> pending;
+    private volatile Instant reconciledAt = Instant.EPOCH;
+
+    public record Key(Long statusId, Long priorityId, Long assigneeId) {
+        public static Key of(Task task) {
+            return new Key(task.getStatus() == null ? null : task.getStatus().getId(),
+                    task.getPriority() == null ? null : task.getPriority().getId(),
+                    task.getAssignee() == null ? null : task.getAssignee().getId());
+        }
+    }
+
+    public record Snapshot(long total, Map<Long, Long> byStatus, Map<Long, Long> byPriority,
+                           Map<Long, Long> byAssignee, Instant reconciledAt) {
+    }
+
+    private enum Kind {
+        ADDED, MOVED, REMOVED
+    }
+
+    private record Change(Kind kind, Long taskId, LocalDateTime updatedAt, Consumer<Counts> effect) {
+    }
+
+    public void added(Task task) {
+        var key = Key.of(task);
+        afterCommit(Kind.ADDED, task, counts -> counts.add(key, 1));
+    }
+
+    public void moved(Key before, Task task) {
+        var after = Key.of(task);
+        if (!before.equals(after)) {
+            afterCommit(Kind.MOVED, task, counts -> counts.move(before, after));
+        }
+    }
+
+    public void removed(Task task) {
+        var key = Key.of(task);
+        afterCommit(Kind.REMOVED, task, counts -> counts.add(key, -1));
+    }
+
+    public Snapshot snapshot() {
+        var counts = current;
+        return new Snapshot(counts.total.sum(), counts.byStatus.sums(), counts.byPriority.sums(),
+                counts.byAssignee.sums(), reconciledAt);
+    }
+
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void reconcile() {
+        // a lock rather than synchronized, so a virtual thread waiting on the queries doesn't pin its carrier
+        reconciling.lock();
+        var changes = new ConcurrentLinkedQueue<Change>();
+        pending = changes;
+        try {
+            var fresh = new Counts();
+            fresh.total.add(taskRepository.count());
+            fresh.byStatus.load(taskRepository.countByStatus());
+            fresh.byPriority.load(taskRepository.countByPriority());
+            fresh.byAssignee.load(taskRepository.countByAssignee());
+            var stamped = new HashSet<Long>();
+            var stamps = new HashMap<Long, LocalDateTime>();
+            loadStamps(changes, stamped, stamps);
+
+            swap.writeLock().lock();
+            try {
+                // changes reported since the stamps were read, usually none
+                loadStamps(changes, stamped, stamps);
+                var addedMeanwhile = changes.stream()
+                        .filter(change -> change.kind() == Kind.ADDED)
+                        .map(Change::taskId)
+                        .collect(Collectors.toSet());
+                changes.stream()
+                        .filter(change -> !isCounted(change, stamps, addedMeanwhile))
+                        .forEach(change -> change.effect().accept(fresh));
+
+                var drift = current.total.sum() - fresh.total.sum();
+                current = fresh;
+                pending = null;
+                reconciledAt = Instant.now();
+                if (drift != 0) {
+                    log.warn("Task counters drifted by {} tasks from the database, reconciled", drift);
+                }
+            } finally {
+                swap.writeLock().unlock();
+            }
+        } finally {
+            // a failed reconciliation must not leave changes piling up
+            pending = null;
+            reconciling.unlock();
+        }
+    }
+
+    private void loadStamps(Collection<Change> changes, Set<Long> stamped, Map<Long, LocalDateTime> stamps) {
+        var ids = changes.stream()
+                .map(Change::taskId)
+                .filter(stamped::add)
+                .toList();
+        for (int from = 0; from < ids.size(); from += STAMP_BATCH_SIZE) {
+            var batch = ids.subList(from, Math.min(from + STAMP_BATCH_SIZE, ids.size()));
+            taskRepository.findStampsByIdIn(batch).forEach(stamp -> stamps.put(stamp.id(), stamp.updatedAt()));
+        }
+    }
+
+    private static boolean isCounted(Change change, Map<Long, LocalDateTime> stamps, Set<Long> addedMeanwhile) {
+        if (!stamps.containsKey(change.taskId())) {
+            // no row: not inserted yet if its insert was reported meanwhile, otherwise already deleted;
+            // an insert and a delete reported together cancel out either way
+            return !addedMeanwhile.contains(change.taskId());
+        }
+        return switch (change.kind()) {
+            case ADDED -> true;
+            case REMOVED -> false;
+            case MOVED -> {
+                var stamp = stamps.get(change.taskId());
+                yield stamp == null || change.updatedAt() == null
+                        || !change.updatedAt().truncatedTo(ChronoUnit.MICROS).isAfter(stamp);
+            }
+        };
+    }
+
+    private void afterCommit(Kind kind, Task task, Consumer<Counts> effect) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(new Change(kind, task.getId(), task.getUpdatedAt(), effect));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // id and updatedAt are final only after the flush
+                apply(new Change(kind, task.getId(), task.getUpdatedAt(), effect));
+            }
+        });
+    }
+
+    private void apply(Change change) {
+        swap.readLock().lock();
+        try {
+            change.effect().accept(current);
+            var reconciling = pending;
+            if (reconciling != null) {
+                reconciling.add(change);
+            }
+        } finally {
+            swap.readLock().unlock();
+        }
+    }
+
+    private static final class Counts {
+        private final LongAdder total = new LongAdder();
+        private final Group byStatus = new Group();
+        private final Group byPriority = new Group();
+        private final Group byAssignee = new Group();
+
+        void add(Key key, long delta) {
+            total.add(delta);
+            byStatus.add(key.statusId(), delta);
+            byPriority.add(key.priorityId(), delta);
+            byAssignee.add(key.assigneeId(), delta);
+        }
+
+        void move(Key before, Key after) {
+            byStatus.move(before.statusId(), after.statusId());
+            byPriority.move(before.priorityId(), after.priorityId());
+            byAssignee.move(before.assigneeId(), after.assigneeId());
+        }
+
+    }
+
+    private static final class Group {
+        private final Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+
+        void add(Long key, long delta) {
+            if (key != null) {
+                counts.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            }
+        }
+
+        void move(Long before, Long after) {
+            if (before == null ? after != null : !before.equals(after)) {
+                add(before, -1);
+                add(after, 1);
+            }
+        }
+
+        void load(List<TaskCount> rows) {
+            rows.forEach(row -> add(row.key(), row.count()));
+        }
+
+        Map<Long, Long> sums() {
+            return counts.entrySet().stream()
+                    .filter(entry -> entry.getValue().sum() != 0)
+                    .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.app.component;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Triggers {@link TaskCounters#reconcile()} at start-up and then every tasks.stats.reconcile-interval. Calling it
+ * from a separate bean goes through the proxy, so each run gets its own repeatable-read transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskCountersReconciliation {
+    private final TaskCounters taskCounters;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${tasks.stats.reconcile-interval:5m}",
+            initialDelayString = "${tasks.stats.reconcile-interval:5m}")
+    public void reconcile() {
+        taskCounters.reconcile();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.app.component;
+
+import com.example.app.dto.task.TaskChangeEvent;
+import com.example.app.models.OutboxEvent;
+import com.example.app.repositories.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records a task domain event in the outbox within the caller's transaction, so the event is stored exactly when
+ * the change is, and hands it to the live change stream once that transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskEventPublisher {
+    private final OutboxEventRepository outboxRepository;
+    private final TaskChangeStream changeStream;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(TaskChangeEvent event) {
+        try {
+            var payload = objectMapper.writeValueAsString(event);
+            outboxRepository.save(new OutboxEvent(event.taskId(), event.name(), payload));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize task event: " + event, ex);
+        }
+        changeStream.publish(event);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.app.config;
+
+import com.example.app.component.CredentialCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * Answers repeated username/password logins from {@link CredentialCache}, so only the first one in the cache
+ * window pays for the password hash check and the user lookup. Failed attempts are never cached.
+ */
+@RequiredArgsConstructor
+class CachingAuthenticationProvider implements AuthenticationProvider {
+    private final AuthenticationProvider delegate;
+    private final CredentialCache credentialCache;
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!(authentication.getCredentials() instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+
+        var username = authentication.getName();
+        var cached = credentialCache.get(username, password);
+        if (cached != null) {
+            return cached;
+        }
+
+        var generation = credentialCache.generation();
+        var result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            credentialCache.put(username, password, result, generation);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
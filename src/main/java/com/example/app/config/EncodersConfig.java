@@ -1,22 +1,41 @@
 package com.example.app.config;
 
 import com.example.app.component.RsaKeyProperties;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
 import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
 import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
 @Configuration
 @RequiredArgsConstructor
 public class EncodersConfig {
@@ -29,14 +48,60 @@ public class EncodersConfig {
 
     @Bean
     JwtEncoder jwtEncoder() {
-        JWK jwk = new RSAKey.Builder(rsaKeyProperties.getPublicKey()).privateKey(rsaKeyProperties.getPrivateKey())
-                .build();
-        JWKSource<SecurityContext> jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
+        JWKSource<SecurityContext> jwks = new ImmutableJWKSet<>(new JWKSet(signingKey()));
         return new NimbusJwtEncoder(jwks);
     }
 
     @Bean
-    JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(rsaKeyProperties.getPublicKey()).build();
+    JwtDecoder jwtDecoder(@Value("${cache.jwt.max-size:10000}") long maxSize) {
+        NimbusJwtDecoder decoder;
+        if (isEs256()) {
+            var processor = new DefaultJWTProcessor<SecurityContext>();
+            processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.ES256,
+                    new ImmutableJWKSet<>(new JWKSet(signingKey().toPublicJWK()))));
+            processor.setJWTClaimsSetVerifier((claims, context) -> { });
+            decoder = new NimbusJwtDecoder(processor);
+        } else {
+            decoder = NimbusJwtDecoder.withPublicKey(rsaKeyProperties.getPublicKey()).build();
+        }
+        return new CachingJwtDecoder(decoder, maxSize);
+    }
+
+    private boolean isEs256() {
+        var algorithm = SignatureAlgorithm.from(rsaKeyProperties.getAlgorithm());
+        if (algorithm != SignatureAlgorithm.RS256 && algorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalStateException("Unsupported token signature algorithm: "
+                    + rsaKeyProperties.getAlgorithm());
+        }
+        return algorithm == SignatureAlgorithm.ES256;
+    }
+
+    private JWK signingKey() {
+        if (isEs256()) {
+            return new ECKey.Builder(Curve.P_256,
+                    (ECPublicKey) readKey(rsaKeyProperties.getEcPublicKey(), true))
+                    .privateKey((ECPrivateKey) readKey(rsaKeyProperties.getEcPrivateKey(), false))
+                    .build();
+        }
+        return new RSAKey.Builder(rsaKeyProperties.getPublicKey()).privateKey(rsaKeyProperties.getPrivateKey())
+                .build();
+    }
+
+    private static Key readKey(Resource resource, boolean publicKey) {
+        if (resource == null) {
+            throw new IllegalStateException("ES256 requires rsa.ec-public-key and rsa.ec-private-key");
+        }
+        try {
+            var pem = resource.getContentAsString(StandardCharsets.US_ASCII)
+                    .replaceAll("-----[A-Z ]+-----", "")
+                    .replaceAll("\\s", "");
+            var encoded = Base64.getDecoder().decode(pem);
+            var keyFactory = KeyFactory.getInstance("EC");
+            return publicKey
+                    ? keyFactory.generatePublic(new X509EncodedKeySpec(encoded))
+                    : keyFactory.generatePrivate(new PKCS8EncodedKeySpec(encoded));
+        } catch (IOException | GeneralSecurityException ex) {
+            throw new IllegalStateException("Could not read EC key from " + resource, ex);
+        }
     }
 }
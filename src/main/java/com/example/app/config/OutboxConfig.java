@@ -0,0 +1,29 @@
+package com.example.app.config;
+
+import com.example.app.component.FileOutboxSink;
+import com.example.app.component.LoggingOutboxSink;
+import com.example.app.component.OutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Slf4j
+@Configuration
+public class OutboxConfig {
+    @Value("${outbox.sink.file:}")
+    private String sinkFile;
+
+    @Bean
+    public OutboxSink outboxSink(ObjectMapper objectMapper) {
+        if (sinkFile.isBlank()) {
+            log.info("Outbox events are relayed to the application log");
+            return new LoggingOutboxSink();
+        }
+        log.info("Outbox events are relayed to file: {}", sinkFile);
+        return new FileOutboxSink(Path.of(sinkFile), objectMapper);
+    }
+}
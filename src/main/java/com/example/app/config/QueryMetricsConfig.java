@@ -0,0 +1,61 @@
+package com.example.app.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes Hibernate's query plan cache, statement and second-level cache region counters, so reuse of the
+ * precompiled task queries and cache effectiveness can be checked on /actuator/metrics.
+ * Active only when hibernate.generate_statistics is on (the dev and metrics profiles).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.jpa.properties.hibernate", name = "generate_statistics", havingValue = "true")
+public class QueryMetricsConfig {
+    @Bean
+    public MeterBinder hibernateQueryMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            FunctionCounter.builder("hibernate.query.plan.cache", statistics, Statistics::getQueryPlanCacheHitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.query.plan.cache", statistics, Statistics::getQueryPlanCacheMissCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.statements", statistics, Statistics::getPrepareStatementCount)
+                    .tag("status", "prepared")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.queries", statistics, Statistics::getQueryExecutionCount)
+                    .tag("status", "executed")
+                    .register(registry);
+            for (var region : statistics.getSecondLevelCacheRegionNames()) {
+                bindRegion(registry, statistics, region);
+            }
+        };
+    }
+
+    private static void bindRegion(MeterRegistry registry, Statistics statistics, String region) {
+        FunctionCounter.builder("hibernate.cache.region.requests", statistics,
+                        stats -> stats.getCacheRegionStatistics(region).getHitCount())
+                .tags("region", region, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.region.requests", statistics,
+                        stats -> stats.getCacheRegionStatistics(region).getMissCount())
+                .tags("region", region, "result", "miss")
+                .register(registry);
+        Gauge.builder("hibernate.cache.region.hit.ratio", statistics, stats -> {
+                    var regionStatistics = stats.getCacheRegionStatistics(region);
+                    long requests = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+                    return requests == 0 ? Double.NaN : (double) regionStatistics.getHitCount() / requests;
+                })
+                .tag("region", region)
+                .register(registry);
+    }
+}
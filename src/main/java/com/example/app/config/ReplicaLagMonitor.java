@@ -0,0 +1,64 @@
+package com.example.app.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Tracks how far the replica is behind the primary. The lag is re-measured in the background at most once per
+ * check interval, so routing never waits on it after the first check; a failed check counts as unlimited lag.
+ */
+@Slf4j
+class ReplicaLagMonitor {
+    private static final String KEY = "replica";
+    private static final Duration UNAVAILABLE = Duration.ofSeconds(Long.MAX_VALUE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final LoadingCache<String, Duration> lag;
+
+    ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, Duration checkInterval,
+                      MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.lag = Caffeine.newBuilder()
+                .refreshAfterWrite(checkInterval)
+                .build(key -> measure());
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.currentLag().toMillis() / 1000.0)
+                .description("Replication lag of the read replica, in seconds")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    boolean isAvailable() {
+        return currentLag().compareTo(maxLag) <= 0;
+    }
+
+    Duration currentLag() {
+        return lag.get(KEY);
+    }
+
+    private Duration measure() {
+        try {
+            Double seconds = jdbcTemplate.queryForObject(lagQuery, Double.class);
+            var current = seconds == null ? Duration.ZERO : Duration.ofMillis(Math.round(seconds * 1000));
+            if (current.compareTo(maxLag) > 0) {
+                log.warn("Replica is {} behind the primary, reads go to the primary", current);
+            }
+            return current;
+        } catch (DataAccessException ex) {
+            log.error("Replica lag check failed, reads go to the primary: {}", ex.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.app.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Target for read-only connections: the replica while it is within the allowed lag and the caller has not
+ * just written, the primary otherwise.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Map<Target, Counter> routed = new EnumMap<>(Target.class);
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                             ReadYourWritesTracker readYourWrites, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        for (var target : Target.values()) {
+            routed.put(target, Counter.builder("datasource.reads")
+                    .description("Read-only connections by the data source that served them")
+                    .tag("target", target.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        var target = !readYourWrites.requiresPrimary() && lagMonitor.isAvailable() ? Target.REPLICA : Target.PRIMARY;
+        routed.get(target).increment();
+        return target;
+    }
+}
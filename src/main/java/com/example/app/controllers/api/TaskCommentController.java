@@ -20,8 +20,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -37,16 +39,29 @@ public class TaskCommentController {
 
     @Operation(
             summary = "Получить список комментариев к задаче",
-            description = "Возвращает список всех комментариев, связанных с указанной задачей по её идентификатору"
+            description = "Возвращает комментарии указанной задачи в порядке создания, не более limit за запрос. "
+                    + "Общее количество возвращается в заголовке X-Total-Count, токен следующей страницы "
+                    + "- в заголовке X-Next-Cursor, его нужно передать в параметре cursor"
     )
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public ResponseEntity<List<TaskCommentDTO>> getListTaskComments(@PathVariable Long taskId) {
-        log.info("Fetching all task comments with task id: {}", taskId);
-        return ResponseEntity.ok()
-                .header("X-Total-Count",
-                        String.valueOf(commentService.getAllCommentsForTask(taskId).size()))
-                .body(commentService.getAllCommentsForTask(taskId));
+    public ResponseEntity<List<TaskCommentDTO>> getListTaskComments(@PathVariable Long taskId,
+                                                                    @RequestParam(defaultValue = "50") int limit,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    WebRequest request) {
+        log.info("Fetching task comments with task id: {}, limit: {}, after cursor: {}", taskId, limit, cursor);
+        var version = commentService.getCommentsVersion(taskId);
+        if (version.isPresent() && version.get().checkNotModified(request)) {
+            log.info("Comments of task with id: {} not modified since the client's version", taskId);
+            return null;
+        }
+        var slice = commentService.getCommentsForTask(taskId, limit, cursor);
+        var response = ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(slice.getTotalCount()));
+        if (slice.getNextCursor() != null) {
+            response.header("X-Next-Cursor", slice.getNextCursor());
+        }
+        return response.body(slice.getContent());
     }
 
     @Operation(
@@ -57,8 +72,13 @@ public class TaskCommentController {
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public TaskCommentDTO getTaskComment(@PathVariable Long taskId, @PathVariable Long id) {
+    public TaskCommentDTO getTaskComment(@PathVariable Long taskId, @PathVariable Long id, WebRequest request) {
         log.info("Fetching task comment with id {}, where taskId: {}", id, taskId);
+        var version = commentService.getCommentVersion(taskId, id);
+        if (version.isPresent() && version.get().checkNotModified(request)) {
+            log.info("Task comment with id: {} not modified since the client's version", id);
+            return null;
+        }
         return commentService.getCommentForTask(taskId, id);
     }
 
@@ -69,7 +89,7 @@ public class TaskCommentController {
     )
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    @PreAuthorize("hasRole('ADMIN') or @taskUtils.isAssigneeOrAdmin(#id, principal)")
+    @PreAuthorize("hasRole('ADMIN') or @taskUtils.isAssigneeOrAdmin(#taskId, authentication)")
     public TaskCommentDTO createTaskComments(@PathVariable Long taskId,
                                              @RequestBody @Valid TaskCommentCreateDTO createDTO) {
         log.info("Request to create task comment: {}, where taskId: {}", createDTO, taskId);
@@ -85,7 +105,7 @@ public class TaskCommentController {
     )
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    @PreAuthorize("hasRole('ADMIN') or @taskUtils.isCommentAuthor(#id, principal)")
+    @PreAuthorize("hasRole('ADMIN') or @taskUtils.isCommentAuthor(#id, authentication)")
     public TaskCommentDTO updateTaskComments(@PathVariable Long taskId,
                                              @RequestBody @Valid TaskCommentUpdateDTO updateDTO,
                                              @PathVariable Long id) {
@@ -102,7 +122,7 @@ public class TaskCommentController {
     )
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    @PreAuthorize("hasRole('ADMIN') or @taskUtils.isCommentAuthor(#id, principal)")
+    @PreAuthorize("hasRole('ADMIN') or @taskUtils.isCommentAuthor(#id, authentication)")
     public void deleteTaskComments(@PathVariable Long taskId, @PathVariable Long id) {
         log.info("Request to delete task comment with id: {}, where taskId: {}", id, taskId);
         commentService.deleteCommentForTask(taskId, id);
@@ -1,18 +1,29 @@
 package com.example.app.controllers.api;
 
+import com.example.app.dto.specificationDTO.TaskExportFormat;
 import com.example.app.dto.specificationDTO.TaskParamDTO;
+import com.example.app.dto.task.TaskBulkResultDTO;
+import com.example.app.dto.task.TaskBulkUpdateDTO;
 import com.example.app.dto.task.TaskCreateDTO;
 import com.example.app.dto.task.TaskDTO;
+import com.example.app.dto.task.TaskStatsDTO;
+import com.example.app.dto.task.TaskSyncDTO;
 import com.example.app.dto.task.TaskUpdateDTO;
 import com.example.app.dto.task.TaskUpdateForAssigneeDTO;
+import com.example.app.services.TaskBulkService;
+import com.example.app.services.TaskExportService;
 import com.example.app.services.TaskService;
+import com.example.app.services.TaskSyncService;
 import com.example.app.utils.TaskUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -21,11 +32,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Slf4j
@@ -35,21 +51,113 @@ import java.util.List;
 @Tag(name = "Контроллер задач", description = "Позволяет проводить CRUD операции с задачами")
 public class TaskController {
     private final TaskService taskService;
+    private final TaskBulkService taskBulkService;
+    private final TaskExportService taskExportService;
+    private final TaskSyncService taskSyncService;
     private final TaskUtils taskUtils;
 
     @Operation(summary = "Получить список задач",
             description = "Возвращает список задач в соответствии с заданными параметрами фильтрации, "
-                    + "пагинацией и сортировкой")
+                    + "пагинацией и сортировкой. Если передан параметр cursor (пустой для первой страницы), "
+                    + "используется курсорная пагинация: токен следующей страницы возвращается в заголовке "
+                    + "X-Next-Cursor. Параметр count (exact, estimate, none) задает способ подсчета "
+                    + "заголовка X-Total-Count: точный, оценка планировщика PostgreSQL или без подсчета")
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<TaskDTO>> getListTask(TaskParamDTO paramDTO,
                                                      @RequestParam(defaultValue = "1") int page,
-                                                     @RequestParam(defaultValue = "id,asc") String sort) {
+                                                     @RequestParam(defaultValue = "id,asc") String sort,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "exact") String count,
+                                                     WebRequest request) {
+        if (taskService.getListVersion().checkNotModified(request)) {
+            log.info("Task list not modified since the client's version");
+            return null;
+        }
+
+        if (cursor != null) {
+            log.info("Fetching tasks corresponding to the request parameters: {} and sorted: {}, after cursor: {}",
+                    paramDTO, sort, cursor);
+            var slice = taskService.getTasksAfterCursor(paramDTO, cursor, sort);
+            var response = ResponseEntity.ok();
+            if (slice.getNextCursor() != null) {
+                response.header("X-Next-Cursor", slice.getNextCursor());
+            }
+            return response.body(slice.getContent());
+        }
+
         log.info("Fetching all tasks corresponding to the request parameters: {} and sorted: {}, number of pages: {}",
                 paramDTO, sort, page);
-        return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(taskService.totalCountListOfTask(paramDTO)))
-                .body(taskService.getAllTask(paramDTO, page, sort));
+        var taskPage = taskService.getAllTask(paramDTO, page, sort, count);
+        var response = ResponseEntity.ok();
+        if (taskPage.getTotalCount() != null) {
+            response.header("X-Total-Count", String.valueOf(taskPage.getTotalCount()));
+        }
+        if (taskPage.isTotalEstimated()) {
+            response.header("X-Total-Count-Estimated", "true");
+        }
+        return response.body(taskPage.getContent());
+    }
+
+    @Operation(summary = "Выгрузить задачи",
+            description = "Потоково выгружает все задачи, подходящие под параметры фильтрации, "
+                    + "в формате ndjson (по одной задаче JSON на строку) или csv")
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportTasks(TaskParamDTO paramDTO,
+                            @RequestParam(defaultValue = "ndjson") String format,
+                            HttpServletResponse response) throws IOException {
+        var exportFormat = TaskExportFormat.fromValue(format);
+        log.info("Request to export tasks corresponding to the request parameters: {} as {}", paramDTO, exportFormat);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"");
+        taskExportService.exportTasks(paramDTO, exportFormat, response.getOutputStream());
+    }
+
+    @Operation(summary = "Синхронизировать задачи",
+            description = "Возвращает задачи и комментарии, измененные после метки watermark, и записи об удаленных "
+                    + "задачах и комментариях. В ответе приходит новая метка для следующего запроса; has_more "
+                    + "означает, что изменений больше, чем limit. Без метки или со слишком старой меткой "
+                    + "возвращаются все данные и full_resync, клиент должен заменить локальную копию")
+    @GetMapping("/sync")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ADMIN')")
+    public TaskSyncDTO syncTasks(@RequestParam(required = false) String watermark,
+                                 @RequestParam(defaultValue = "500") int limit) {
+        log.info("Request to sync tasks changed after watermark: {}, limit: {}", watermark, limit);
+        return taskSyncService.sync(watermark, limit);
+    }
+
+    @Operation(summary = "Подписаться на изменения задач",
+            description = "Открывает поток Server-Sent Events с событиями создания, изменения и удаления задач "
+                    + "и их комментариев, подходящих под параметры фильтрации. Чтобы продолжить поток после "
+                    + "разрыва, передайте id последнего полученного события в заголовке Last-Event-ID; "
+                    + "если продолжить нельзя, придет событие reset и список задач нужно загрузить заново. "
+                    + "Поток видит только изменения, зафиксированные на том же экземпляре приложения")
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public SseEmitter streamTaskChanges(TaskParamDTO paramDTO,
+                                        @RequestHeader(value = "Last-Event-ID", required = false)
+                                        String lastEventId) {
+        log.info("Request to stream task changes corresponding to the request parameters: {}", paramDTO);
+        return taskService.subscribeToChanges(paramDTO, lastEventId);
+    }
+
+    @Operation(summary = "Получить статистику задач",
+            description = "Возвращает количество задач всего, по статусам, приоритетам и исполнителям. "
+                    + "Счетчики хранятся в памяти и обновляются при каждом изменении задач, "
+                    + "поэтому запрос не обращается к базе данных. Счетчики свои у каждого узла: изменения, "
+                    + "сделанные на других узлах, учитываются при сверке с базой, время которой указано "
+                    + "в reconciled_at")
+    @GetMapping("/stats")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ADMIN')")
+    public TaskStatsDTO getTaskStats() {
+        log.info("Fetching task statistics");
+        return taskService.getStats();
     }
 
     @Operation(summary = "Получить задачу по ID",
@@ -57,8 +165,13 @@ public class TaskController {
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public TaskDTO getTask(@PathVariable Long id) {
+    public TaskDTO getTask(@PathVariable Long id, WebRequest request) {
         log.info("Fetching task with ID: {}", id);
+        var version = taskService.getTaskVersion(id);
+        if (version.isPresent() && version.get().checkNotModified(request)) {
+            log.info("Task with ID: {} not modified since the client's version", id);
+            return null;
+        }
         return taskService.getTask(id);
     }
 
@@ -92,7 +205,7 @@ public class TaskController {
                     + "исполнителем или администратором.")
     @PutMapping("/{id}/assignee-update")
     @ResponseStatus(HttpStatus.OK)
-    @PreAuthorize("hasRole('ADMIN') or @taskUtils.isAssigneeOrAdmin(#id, principal)")
+    @PreAuthorize("hasRole('ADMIN') or @taskUtils.isAssigneeOrAdmin(#id, authentication)")
     public TaskDTO updateTaskForAssignee(@RequestBody @Valid TaskUpdateForAssigneeDTO updateDTO,
                                          @PathVariable Long id) {
         log.info("Request to update task with role USER and assignee for this task with id: {},"
@@ -113,4 +226,36 @@ public class TaskController {
         taskService.deleteTask(id);
         log.info("Task delete successfully with id: {}", id);
     }
+
+    @Operation(summary = "Создать задачи пакетом",
+            description = "Создает задачи из массива. Результат возвращается для каждого элемента: "
+                    + "ошибка одного элемента не отменяет создание остальных")
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<TaskBulkResultDTO> createTasks(@RequestBody List<TaskCreateDTO> createDTOs) {
+        log.info("Request to create {} tasks", createDTOs.size());
+        return taskBulkService.createTasks(createDTOs);
+    }
+
+    @Operation(summary = "Обновить задачи пакетом",
+            description = "Обновляет задачи из массива, каждый элемент содержит идентификатор задачи. "
+                    + "Результат возвращается для каждого элемента")
+    @PutMapping("/bulk")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<TaskBulkResultDTO> updateTasks(@RequestBody List<TaskBulkUpdateDTO> updateDTOs) {
+        log.info("Request to update {} tasks", updateDTOs.size());
+        return taskBulkService.updateTasks(updateDTOs);
+    }
+
+    @Operation(summary = "Удалить задачи пакетом",
+            description = "Удаляет задачи по массиву идентификаторов. Результат возвращается для каждого элемента")
+    @DeleteMapping("/bulk")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<TaskBulkResultDTO> deleteTasks(@RequestBody List<Long> ids) {
+        log.info("Request to delete {} tasks", ids.size());
+        return taskBulkService.deleteTasks(ids);
+    }
 }
@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -37,11 +38,15 @@ public class TaskPriorityController {
             description = "Возвращает список всех приоритетов задач")
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public ResponseEntity<List<TaskPriorityDTO>> getListPriority() {
+    public ResponseEntity<List<TaskPriorityDTO>> getListPriority(WebRequest request) {
         log.info("Fetching all task priorities");
+        if (priorityService.getVersion().checkNotModified(request)) {
+            return null;
+        }
+        var priorities = priorityService.getAllPriority();
         return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(priorityService.getAllPriority().size()))
-                .body(priorityService.getAllPriority());
+                .header("X-Total-Count", String.valueOf(priorities.size()))
+                .body(priorities);
     }
 
     @Operation(
@@ -50,8 +55,11 @@ public class TaskPriorityController {
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public TaskPriorityDTO getPriority(@PathVariable Long id) {
+    public TaskPriorityDTO getPriority(@PathVariable Long id, WebRequest request) {
         log.info("Fetching task priority with ID: {}", id);
+        if (priorityService.getVersion().checkNotModified(request)) {
+            return null;
+        }
         return priorityService.getPriority(id);
     }
 
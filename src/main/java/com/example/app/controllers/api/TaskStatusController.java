@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -37,11 +38,15 @@ public class TaskStatusController {
             description = "Возвращает список всех статусов задач")
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public ResponseEntity<List<TaskStatusDTO>> getListTasksStatus() {
+    public ResponseEntity<List<TaskStatusDTO>> getListTasksStatus(WebRequest request) {
         log.info("Fetching all task statuses");
+        if (statusService.getVersion().checkNotModified(request)) {
+            return null;
+        }
+        var statuses = statusService.getAllStatus();
         return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(statusService.getAllStatus().size()))
-                .body(statusService.getAllStatus());
+                .header("X-Total-Count", String.valueOf(statuses.size()))
+                .body(statuses);
     }
 
     @Operation(
@@ -50,8 +55,11 @@ public class TaskStatusController {
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public TaskStatusDTO getTaskStatus(@PathVariable Long id) {
+    public TaskStatusDTO getTaskStatus(@PathVariable Long id, WebRequest request) {
         log.info("Fetching task status with ID: {}", id);
+        if (statusService.getVersion().checkNotModified(request)) {
+            return null;
+        }
         return statusService.getStatus(id);
     }
 
@@ -1,5 +1,6 @@
 package com.example.app.controllers.api;
 
+import com.example.app.dto.specificationDTO.UserParamDTO;
 import com.example.app.dto.user.UserCreateDTO;
 import com.example.app.dto.user.UserDTO;
 import com.example.app.dto.user.UserUpdateDTO;
@@ -20,6 +21,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -36,14 +38,22 @@ public class UserController {
 
     @Operation(
             summary = "Получить список пользователей",
-            description = "Возвращает список всех пользователей")
+            description = "Возвращает страницу пользователей с фильтрацией по email (emailCont), "
+                    + "имени или фамилии (nameCont) и роли (role). Общее количество возвращается в заголовке "
+                    + "X-TotalCount. Задачи пользователей включаются только при expand=tasks, "
+                    + "не более заданного количества последних задач на пользователя")
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public ResponseEntity<List<UserDTO>> getListUsers() {
-        log.info("Fetching all users");
+    public ResponseEntity<List<UserDTO>> getListUsers(UserParamDTO paramDTO,
+                                                      @RequestParam(defaultValue = "1") int page,
+                                                      @RequestParam(defaultValue = "20") int size,
+                                                      @RequestParam(required = false) String expand) {
+        log.info("Fetching users corresponding to the request parameters: {}, page: {}, size: {}, expand: {}",
+                paramDTO, page, size, expand);
+        var userPage = userService.getAllUsers(paramDTO, page, size, expand);
         return ResponseEntity.ok()
-                .header("X-TotalCount", String.valueOf(userService.getAllUsers().size()))
-                .body(userService.getAllUsers());
+                .header("X-TotalCount", String.valueOf(userPage.getTotalCount()))
+                .body(userPage.getContent());
     }
 
     @Operation(
@@ -0,0 +1,14 @@
+package com.example.app.dto.specificationDTO;
+
+import java.util.Arrays;
+
+public enum TaskCountMode {
+    EXACT, ESTIMATE, NONE;
+
+    public static TaskCountMode fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(value.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Invalid count mode: " + value));
+    }
+}
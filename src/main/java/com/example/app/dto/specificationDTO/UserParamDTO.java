@@ -0,0 +1,15 @@
+package com.example.app.dto.specificationDTO;
+
+import com.example.app.models.RoleName;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+public class UserParamDTO {
+    private String emailCont;
+    private String nameCont;
+    private RoleName role;
+}
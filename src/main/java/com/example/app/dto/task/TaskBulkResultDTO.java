@@ -0,0 +1,26 @@
+package com.example.app.dto.task;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+public class TaskBulkResultDTO {
+
+    @JsonProperty("index")
+    private int index;
+
+    @JsonProperty("id")
+    private Long id;
+
+    @JsonProperty("status")
+    private int status;
+
+    @JsonProperty("error")
+    private String error;
+}
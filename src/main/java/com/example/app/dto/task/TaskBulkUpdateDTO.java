@@ -0,0 +1,17 @@
+package com.example.app.dto.task;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString(callSuper = true)
+public class TaskBulkUpdateDTO extends TaskUpdateDTO {
+
+    @NotNull(message = "Идентификатор задачи должен быть указан обязательно")
+    @JsonProperty("id")
+    private Long id;
+}
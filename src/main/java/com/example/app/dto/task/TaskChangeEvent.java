@@ -0,0 +1,49 @@
+package com.example.app.dto.task;
+
+import com.example.app.models.Task;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A committed change of a task or of one of its comments, with the task fields clients filter the stream by.
+ */
+public record TaskChangeEvent(
+        @JsonProperty("entity") Entity entity,
+        @JsonProperty("action") Action action,
+        @JsonProperty("task_id") Long taskId,
+        @JsonProperty("comment_id") Long commentId,
+        @JsonProperty("author_id") Long authorId,
+        @JsonProperty("assignee_id") Long assigneeId,
+        @JsonProperty("status_id") Long statusId,
+        @JsonProperty("priority_id") Long priorityId) {
+
+    public enum Entity {
+        @JsonProperty("task") TASK,
+        @JsonProperty("comment") COMMENT
+    }
+
+    public enum Action {
+        @JsonProperty("created") CREATED,
+        @JsonProperty("updated") UPDATED,
+        @JsonProperty("deleted") DELETED
+    }
+
+    public static TaskChangeEvent ofTask(Action action, Task task) {
+        return of(Entity.TASK, action, task, null);
+    }
+
+    public static TaskChangeEvent ofComment(Action action, Task task, Long commentId) {
+        return of(Entity.COMMENT, action, task, commentId);
+    }
+
+    public String name() {
+        return entity.name().toLowerCase() + "." + action.name().toLowerCase();
+    }
+
+    private static TaskChangeEvent of(Entity entity, Action action, Task task, Long commentId) {
+        return new TaskChangeEvent(entity, action, task.getId(), commentId,
+                task.getAuthor() == null ? null : task.getAuthor().getId(),
+                task.getAssignee() == null ? null : task.getAssignee().getId(),
+                task.getStatus() == null ? null : task.getStatus().getId(),
+                task.getPriority() == null ? null : task.getPriority().getId());
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.app.dto.task;
+
+/**
+ * Number of tasks sharing one value of a grouping column (status, priority or assignee id).
+ */
+public record TaskCount(Long key, Long count) {
+}
@@ -0,0 +1,18 @@
+package com.example.app.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+public class TaskPageDTO {
+    private List<TaskDTO> content;
+    private Long totalCount;
+    private boolean totalEstimated;
+}
@@ -0,0 +1,9 @@
+package com.example.app.dto.task;
+
+import java.time.LocalDateTime;
+
+/**
+ * Last modification time of one task row, as seen by the querying transaction.
+ */
+public record TaskStamp(Long id, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,32 @@
+package com.example.app.dto.task;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+public class TaskStatsDTO {
+
+    @JsonProperty("total")
+    private long total;
+
+    @JsonProperty("by_status")
+    private Map<String, Long> byStatus;
+
+    @JsonProperty("by_priority")
+    private Map<String, Long> byPriority;
+
+    @JsonProperty("by_assignee")
+    private Map<Long, Long> byAssignee;
+
+    @JsonProperty("reconciled_at")
+    private Instant reconciledAt;
+}
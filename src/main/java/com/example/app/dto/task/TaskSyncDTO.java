@@ -0,0 +1,35 @@
+package com.example.app.dto.task;
+
+import com.example.app.dto.taskComment.TaskCommentDTO;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+public class TaskSyncDTO {
+
+    @JsonProperty("tasks")
+    private List<TaskDTO> tasks;
+
+    @JsonProperty("comments")
+    private List<TaskCommentDTO> comments;
+
+    @JsonProperty("deleted")
+    private List<TaskTombstoneDTO> deleted;
+
+    @JsonProperty("watermark")
+    private String watermark;
+
+    @JsonProperty("has_more")
+    private boolean hasMore;
+
+    @JsonProperty("full_resync")
+    private boolean fullResync;
+}
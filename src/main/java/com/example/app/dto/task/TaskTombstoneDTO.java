@@ -0,0 +1,30 @@
+package com.example.app.dto.task;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+public class TaskTombstoneDTO {
+
+    @JsonProperty("entity")
+    private String entity;
+
+    @JsonProperty("id")
+    private Long id;
+
+    @JsonProperty("task_id")
+    private Long taskId;
+
+    @JsonProperty("deleted_at")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy HH:mm:ss")
+    private LocalDateTime deletedAt;
+}
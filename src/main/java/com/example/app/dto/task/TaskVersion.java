@@ -0,0 +1,6 @@
+package com.example.app.dto.task;
+
+import java.time.LocalDateTime;
+
+public record TaskVersion(Long id, LocalDateTime updatedAt, LocalDateTime commentsUpdatedAt, long commentCount) {
+}
@@ -0,0 +1,7 @@
+package com.example.app.dto.task;
+
+import java.time.LocalDateTime;
+
+public record TaskView(Long id, String title, String description, String status, String priority,
+                       Long authorId, Long assigneeId, LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
@@ -16,6 +16,9 @@ public class TaskCommentDTO {
     @JsonProperty("id")
     private Long id;
 
+    @JsonProperty("task_id")
+    private Long taskId;
+
     @JsonProperty("author_id")
     private Long authorId;
 
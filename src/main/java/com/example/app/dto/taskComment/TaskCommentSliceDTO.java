@@ -0,0 +1,18 @@
+package com.example.app.dto.taskComment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+public class TaskCommentSliceDTO {
+    private List<TaskCommentDTO> content;
+    private long totalCount;
+    private String nextCursor;
+}
@@ -0,0 +1,7 @@
+package com.example.app.dto.taskComment;
+
+import java.time.LocalDateTime;
+
+public record TaskCommentView(Long taskId, Long id, Long authorId, String title, String description,
+                              LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
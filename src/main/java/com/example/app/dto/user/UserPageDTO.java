@@ -0,0 +1,17 @@
+package com.example.app.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+public class UserPageDTO {
+    private List<UserDTO> content;
+    private long totalCount;
+}
@@ -3,6 +3,7 @@ package com.example.app.mappers;
 import com.example.app.dto.taskComment.TaskCommentCreateDTO;
 import com.example.app.dto.taskComment.TaskCommentDTO;
 import com.example.app.dto.taskComment.TaskCommentUpdateDTO;
+import com.example.app.dto.taskComment.TaskCommentView;
 import com.example.app.exception.ResourceNotFoundException;
 import com.example.app.models.TaskComment;
 import com.example.app.models.User;
@@ -31,8 +32,11 @@ public abstract class TaskCommentMapper {
     public abstract TaskComment map(TaskCommentCreateDTO createDTO);
 
     @Mapping(target = "authorId", source = "author.id")
+    @Mapping(target = "taskId", source = "task.id")
     public abstract TaskCommentDTO map(TaskComment model);
 
+    public abstract TaskCommentDTO map(TaskCommentView view);
+
     @Mapping(target = "author", source = "authorId", qualifiedByName = "findUser")
     public abstract void update(TaskCommentUpdateDTO updateDTO, @MappingTarget TaskComment model);
 
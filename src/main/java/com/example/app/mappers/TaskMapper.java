@@ -1,17 +1,19 @@
 package com.example.app.mappers;
 
+import com.example.app.component.ReferenceDataCache;
 import com.example.app.dto.task.TaskCreateDTO;
 import com.example.app.dto.task.TaskDTO;
 import com.example.app.dto.task.TaskUpdateDTO;
 import com.example.app.dto.task.TaskUpdateForAssigneeDTO;
+import com.example.app.dto.task.TaskView;
+import com.example.app.dto.taskComment.TaskCommentDTO;
+import com.example.app.dto.taskComment.TaskCommentView;
 import com.example.app.exception.ResourceNotFoundException;
 import com.example.app.models.Task;
 import com.example.app.models.TaskPriority;
 import com.example.app.models.TaskStatus;
 import com.example.app.models.User;
 import com.example.app.repositories.TaskCommentRepository;
-import com.example.app.repositories.TaskPriorityRepository;
-import com.example.app.repositories.TaskStatusRepository;
 import com.example.app.repositories.UserRepository;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -22,6 +24,12 @@ import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.ReportingPolicy;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Mapper(
         uses = {JsonNullableMapper.class, ReferenceMapper.class, TaskCommentMapper.class},
         componentModel = MappingConstants.ComponentModel.SPRING,
@@ -30,13 +38,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 )
 public abstract class TaskMapper {
     @Autowired
-    private TaskStatusRepository taskStatusRepository;
-    @Autowired
-    private TaskPriorityRepository taskPriorityRepository;
+    private ReferenceDataCache referenceDataCache;
     @Autowired
     private TaskCommentRepository taskCommentRepository;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private TaskCommentMapper taskCommentMapper;
 
     @Mapping(target = "status", source = "status", qualifiedByName = "toModelTaskStatus")
     @Mapping(target = "priority", source = "priority", qualifiedByName = "toModelTaskPriority")
@@ -50,6 +58,8 @@ public abstract class TaskMapper {
     @Mapping(target = "assigneeId", source = "assignee.id")
     public abstract TaskDTO map(Task model);
 
+    public abstract TaskDTO map(TaskView view);
+
     @Mapping(target = "status", source = "status", qualifiedByName = "toModelTaskStatus")
     @Mapping(target = "priority", source = "priority", qualifiedByName = "toModelTaskPriority")
     @Mapping(target = "assignee", source = "assigneeId", qualifiedByName = "findUserById")
@@ -57,17 +67,38 @@ public abstract class TaskMapper {
     @Mapping(target = "status", source = "status", qualifiedByName = "toModelTaskStatus")
     public abstract void updateForAssignee(TaskUpdateForAssigneeDTO updateForAssigneeDTO, @MappingTarget Task model);
 
+    @Named("mapAll")
+    public List<TaskDTO> mapAll(List<TaskView> views) {
+        if (views.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        var taskIds = views.stream()
+                .map(TaskView::id)
+                .collect(Collectors.toList());
+        Map<Long, List<TaskCommentDTO>> commentsByTask = new HashMap<>();
+        for (TaskCommentView comment : taskCommentRepository.findViewsByTaskIdIn(taskIds)) {
+            commentsByTask.computeIfAbsent(comment.taskId(), taskId -> new ArrayList<>())
+                    .add(taskCommentMapper.map(comment));
+        }
+
+        return views.stream()
+                .map(view -> {
+                    var dto = map(view);
+                    dto.setTaskComments(commentsByTask.getOrDefault(view.id(), new ArrayList<>()));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
     @Named("toModelTaskStatus")
     public TaskStatus toModelTaskStatus(String status) {
-        return taskStatusRepository.findByName(status)
-                .orElseThrow(() -> new ResourceNotFoundException("Task status with name: " + status + " not found"));
+        return referenceDataCache.findStatus(status);
     }
 
     @Named("toModelTaskPriority")
     public TaskPriority toModelTaskPriority(String priority) {
-        return taskPriorityRepository.findByPriorityName(priority)
-                .orElseThrow(() -> new ResourceNotFoundException("Task priority with name: "
-                        + priority + " not found"));
+        return referenceDataCache.findPriority(priority);
     }
 
     @Named("findUserById")
@@ -1,13 +1,13 @@
 package com.example.app.mappers;
 
+import com.example.app.component.CredentialCache;
+import com.example.app.component.ReferenceDataCache;
 import com.example.app.dto.role.RoleDTO;
 import com.example.app.dto.user.UserCreateDTO;
 import com.example.app.dto.user.UserDTO;
 import com.example.app.dto.user.UserUpdateDTO;
-import com.example.app.exception.ResourceNotFoundException;
 import com.example.app.models.Role;
 import com.example.app.models.User;
-import com.example.app.repositories.RoleRepository;
 import org.mapstruct.BeforeMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -33,16 +33,24 @@ import java.util.stream.Collectors;
 public abstract class UserMapper {
 
     @Autowired
-    private RoleRepository roleRepository;
+    private ReferenceDataCache referenceDataCache;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private CredentialCache credentialCache;
+
     @Mapping(target = "passwordDigest", source = "password")
     public abstract User map(UserCreateDTO createDTO);
 
     public abstract UserDTO map(User model);
 
+    @Named("mapWithoutTasks")
+    @Mapping(target = "tasksAsAuthor", ignore = true)
+    @Mapping(target = "tasksAsAssignee", ignore = true)
+    public abstract UserDTO mapWithoutTasks(User model);
+
     @Mapping(target = "passwordDigest", source = "password")
     @Mapping(target = "roles", source = "roles", qualifiedByName = "updateRoles")
     public abstract void update(UserUpdateDTO updateDTO, @MappingTarget User model);
@@ -54,9 +62,7 @@ public abstract class UserMapper {
             Set<RoleDTO> updateRolesDTO = rolesDTO.get();
             updateRoles = updateRolesDTO.stream()
                     .map(RoleDTO::getRoleName)
-                    .map(roleName -> roleRepository.findByRoleName(roleName)
-                            .orElseThrow(() -> new ResourceNotFoundException("Role with name: "
-                                    + roleName + " not found")))
+                    .map(referenceDataCache::findRole)
                     .collect(Collectors.toSet());
 
         }
@@ -74,6 +80,7 @@ public abstract class UserMapper {
         if (updateDTO.getPassword() != null && updateDTO.getPassword().isPresent()) {
             var password = updateDTO.getPassword().get();
             user.setPasswordDigest(passwordEncoder.encode(password));
+            credentialCache.evictUser(user.getEmail());
         }
     }
 }
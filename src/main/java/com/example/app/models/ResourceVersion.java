@@ -0,0 +1,41 @@
+package com.example.app.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version counter of a representation no single row's updatedAt covers, bumped in the transaction of each change.
+ */
+@Entity
+@Table(name = "resource_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString
+public class ResourceVersion {
+    @Id
+    @Column(name = "name", length = 20)
+    @EqualsAndHashCode.Include
+    private String name;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ResourceVersion(String name, LocalDateTime updatedAt) {
+        this.name = name;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.app.models;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -9,15 +10,21 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Size;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -27,15 +34,32 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tasks")
+@NamedEntityGraph(name = Task.WITH_REFERENCES, attributeNodes = {
+        @NamedAttributeNode("status"),
+        @NamedAttributeNode("priority")
+})
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_updated_at_id", columnList = "updated_at, id"),
+        @Index(name = "idx_tasks_title_id", columnList = "title, id"),
+        @Index(name = "idx_tasks_status_id_id", columnList = "status_id, id"),
+        @Index(name = "idx_tasks_priority_id_id", columnList = "priority_id, id"),
+        @Index(name = "idx_tasks_assignee_status_id", columnList = "assignee_id, status_id, id"),
+        @Index(name = "idx_tasks_author_created_at_id", columnList = "author_id, created_at, id")
+})
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString
 public class Task implements BaseEntity {
+    public static final String WITH_REFERENCES = "Task.withReferences";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id_generator")
+    @SequenceGenerator(name = "task_id_generator", sequenceName = "tasks_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -67,10 +91,12 @@ public class Task implements BaseEntity {
     private User assignee;
 
     @CreatedDate
+    @Column(name = "created_at")
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy HH:mm:ss")
     private LocalDateTime createdAt;
 
     @LastModifiedDate
+    @Column(name = "updated_at")
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy HH:mm:ss")
     private LocalDateTime updatedAt;
 }
@@ -8,8 +8,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Size;
 import lombok.EqualsAndHashCode;
@@ -23,7 +25,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "task_comments")
+@Table(name = "task_comments", indexes = {
+        @Index(name = "idx_task_comments_task_created_at_id", columnList = "task_id, created_at, id"),
+        @Index(name = "idx_task_comments_updated_at_id", columnList = "updated_at, id")
+})
 @Getter
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -31,7 +36,8 @@ import java.time.LocalDateTime;
 @ToString
 public class TaskComment implements BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_comment_id_generator")
+    @SequenceGenerator(name = "task_comment_id_generator", sequenceName = "task_comments_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -51,6 +57,7 @@ public class TaskComment implements BaseEntity {
     private Task task;
 
     @CreatedDate
+    @Column(name = "created_at")
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy HH:mm:ss")
     private LocalDateTime createdAt;
 
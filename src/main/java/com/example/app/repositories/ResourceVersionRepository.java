@@ -0,0 +1,17 @@
+package com.example.app.repositories;
+
+import com.example.app.models.ResourceVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ResourceVersionRepository extends JpaRepository<ResourceVersion, String> {
+    @Modifying
+    @Query("update ResourceVersion v set v.version = v.version + 1, v.updatedAt = :now where v.name = :name")
+    int increment(@Param("name") String name, @Param("now") LocalDateTime now);
+}
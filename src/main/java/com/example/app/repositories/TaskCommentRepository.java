@@ -1,9 +1,15 @@
 package com.example.app.repositories;
 
+import com.example.app.dto.taskComment.TaskCommentView;
 import com.example.app.models.TaskComment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +17,42 @@ import java.util.Optional;
 public interface TaskCommentRepository extends JpaRepository<TaskComment, Long> {
     List<TaskComment> findByTaskId(Long taskId);
     Optional<TaskComment> findByIdAndTaskId(Long id, Long taskId);
+    boolean existsByIdAndAuthorId(Long id, Long authorId);
+
+    @Query("select new com.example.app.dto.taskComment.TaskCommentView(c.task.id, c.id, c.author.id, c.title, "
+            + "c.description, c.createdAt, c.updatedAt) "
+            + "from TaskComment c where c.task.id in :taskIds order by c.id")
+    List<TaskCommentView> findViewsByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    @Query("select new com.example.app.dto.taskComment.TaskCommentView(c.task.id, c.id, c.author.id, c.title, "
+            + "c.description, c.createdAt, c.updatedAt) "
+            + "from TaskComment c where c.task.id = :taskId order by c.createdAt, c.id")
+    List<TaskCommentView> findViewsByTaskId(@Param("taskId") Long taskId, Pageable pageable);
+
+    @Query("select new com.example.app.dto.taskComment.TaskCommentView(c.task.id, c.id, c.author.id, c.title, "
+            + "c.description, c.createdAt, c.updatedAt) "
+            + "from TaskComment c where c.task.id = :taskId "
+            + "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) "
+            + "order by c.createdAt, c.id")
+    List<TaskCommentView> findViewsByTaskIdAfter(@Param("taskId") Long taskId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    long countByTaskId(Long taskId);
+
+    @Query("select new com.example.app.dto.taskComment.TaskCommentView(c.task.id, c.id, c.author.id, c.title, "
+            + "c.description, c.createdAt, c.updatedAt) "
+            + "from TaskComment c where c.updatedAt > :since and c.updatedAt <= :until order by c.updatedAt, c.id")
+    List<TaskCommentView> findViewsUpdatedBetween(@Param("since") LocalDateTime since,
+                                                  @Param("until") LocalDateTime until,
+                                                  Pageable pageable);
+
+    @Query("select new com.example.app.dto.taskComment.TaskCommentView(c.task.id, c.id, c.author.id, c.title, "
+            + "c.description, c.createdAt, c.updatedAt) "
+            + "from TaskComment c where c.id = :id and c.task.id = :taskId")
+    Optional<TaskCommentView> findViewByIdAndTaskId(@Param("id") Long id, @Param("taskId") Long taskId);
+
+    @Query("select c.updatedAt from TaskComment c where c.id = :id and c.task.id = :taskId")
+    Optional<LocalDateTime> findUpdatedAtByIdAndTaskId(@Param("id") Long id, @Param("taskId") Long taskId);
 }
@@ -0,0 +1,147 @@
+package com.example.app.repositories;
+
+import com.example.app.specification.TaskFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JPQL for every combination of the four task filters and the supported sorts, built once at startup.
+ * Each request picks a fixed query text and only binds parameters, so Hibernate reuses its parsed plan and
+ * the JDBC driver sees the same SQL again and can keep it prepared on the server.
+ */
+@Slf4j
+@Component
+public class TaskQueryCatalog {
+    public static final List<String> SORT_PROPERTIES = List.of("id", "title", "createdAt", "updatedAt");
+
+    private static final String VIEW_SELECT = "select new com.example.app.dto.task.TaskView(t.id, t.title, "
+            + "t.description, t.status.name, t.priority.priorityName, t.author.id, t.assignee.id, t.createdAt, "
+            + "t.updatedAt) from Task t";
+    private static final String COUNT_SELECT = "select count(t) from Task t";
+
+    private static final int AUTHOR = 1;
+    private static final int ASSIGNEE = 2;
+    private static final int STATUS = 4;
+    private static final int PRIORITY = 8;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Map<String, String> queries = new HashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public TaskQueryCatalog(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+
+        for (int filters = 0; filters <= (AUTHOR | ASSIGNEE | STATUS | PRIORITY); filters++) {
+            queries.put(countKey(filters), COUNT_SELECT + where(filters, null));
+            for (String property : SORT_PROPERTIES) {
+                for (Sort.Direction direction : Sort.Direction.values()) {
+                    queries.put(viewKey(filters, property, direction, false),
+                            VIEW_SELECT + where(filters, null) + orderBy(property, direction));
+                    queries.put(viewKey(filters, property, direction, true),
+                            VIEW_SELECT + where(filters, after(property, direction)) + orderBy(property, direction));
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses every query once so that the first requests already hit Hibernate's query plan cache.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void precompile() {
+        try (var entityManager = entityManagerFactory.createEntityManager()) {
+            queries.values().forEach(entityManager::createQuery);
+        }
+        log.info("Precompiled {} task queries", queries.size());
+    }
+
+    public boolean supports(Sort.Order order) {
+        return SORT_PROPERTIES.contains(order.getProperty());
+    }
+
+    public String viewQuery(TaskFilter filter, Sort.Order order, boolean afterCursor) {
+        hits.increment();
+        return queries.get(viewKey(filters(filter), order.getProperty(), order.getDirection(), afterCursor));
+    }
+
+    public String countQuery(TaskFilter filter) {
+        hits.increment();
+        return queries.get(countKey(filters(filter)));
+    }
+
+    /**
+     * Counts a request that had to fall back to a dynamically built query.
+     */
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    private static int filters(TaskFilter filter) {
+        return (filter.authorId() != null ? AUTHOR : 0)
+                | (filter.assigneeId() != null ? ASSIGNEE : 0)
+                | (filter.statusIds() != null ? STATUS : 0)
+                | (filter.priorityIds() != null ? PRIORITY : 0);
+    }
+
+    private static String where(int filters, String cursorCondition) {
+        var conditions = new ArrayList<String>();
+        if ((filters & AUTHOR) != 0) {
+            conditions.add("t.author.id = :authorId");
+        }
+        if ((filters & ASSIGNEE) != 0) {
+            conditions.add("t.assignee.id = :assigneeId");
+        }
+        if ((filters & STATUS) != 0) {
+            conditions.add("t.status.id in :statusIds");
+        }
+        if ((filters & PRIORITY) != 0) {
+            conditions.add("t.priority.id in :priorityIds");
+        }
+        if (cursorCondition != null) {
+            conditions.add(cursorCondition);
+        }
+        return conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+    }
+
+    private static String after(String property, Sort.Direction direction) {
+        var comparison = direction.isAscending() ? " > " : " < ";
+        if ("id".equals(property)) {
+            return "t.id" + comparison + ":afterId";
+        }
+        return "(t." + property + comparison + ":afterValue or (t." + property + " = :afterValue and t.id"
+                + comparison + ":afterId))";
+    }
+
+    private static String orderBy(String property, Sort.Direction direction) {
+        var order = " order by t." + property + " " + direction.name().toLowerCase();
+        return "id".equals(property) ? order : order + ", t.id " + direction.name().toLowerCase();
+    }
+
+    private static String viewKey(int filters, String property, Sort.Direction direction, boolean afterCursor) {
+        return "view:" + filters + ":" + property + ":" + direction + ":" + afterCursor;
+    }
+
+    private static String countKey(int filters) {
+        return "count:" + filters;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("tasks.query.catalog")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
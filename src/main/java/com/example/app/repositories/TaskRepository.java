@@ -1,11 +1,79 @@
 package com.example.app.repositories;
 
+import com.example.app.dto.task.TaskCount;
+import com.example.app.dto.task.TaskStamp;
+import com.example.app.dto.task.TaskVersion;
+import com.example.app.dto.task.TaskView;
 import com.example.app.models.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
+    @Override
+    @EntityGraph(Task.WITH_REFERENCES)
+    Page<Task> findAll(Specification<Task> specification, Pageable pageable);
+
+    @EntityGraph(Task.WITH_REFERENCES)
+    Optional<Task> findWithReferencesById(Long id);
+
+    boolean existsByIdAndAssigneeId(Long id, Long assigneeId);
+
+    @Query("select new com.example.app.dto.task.TaskView(t.id, t.title, t.description, t.status.name, "
+            + "t.priority.priorityName, t.author.id, t.assignee.id, t.createdAt, t.updatedAt) "
+            + "from Task t where t.id = :id")
+    Optional<TaskView> findViewById(@Param("id") Long id);
+
+    @Query("select new com.example.app.dto.task.TaskVersion(t.id, t.updatedAt, max(c.updatedAt), count(c)) "
+            + "from Task t left join t.taskComments c where t.id = :id group by t.id, t.updatedAt")
+    Optional<TaskVersion> findVersionById(@Param("id") Long id);
+
+    @Query("select new com.example.app.dto.task.TaskView(t.id, t.title, t.description, t.status.name, "
+            + "t.priority.priorityName, t.author.id, t.assignee.id, t.createdAt, t.updatedAt) "
+            + "from Task t where t.updatedAt > :since and t.updatedAt <= :until order by t.updatedAt, t.id")
+    List<TaskView> findViewsUpdatedBetween(@Param("since") LocalDateTime since,
+                                           @Param("until") LocalDateTime until,
+                                           Pageable pageable);
+
+    @Query("select new com.example.app.dto.task.TaskCount(t.status.id, count(t)) from Task t group by t.status.id")
+    List<TaskCount> countByStatus();
+
+    @Query("select new com.example.app.dto.task.TaskCount(t.priority.id, count(t)) from Task t "
+            + "group by t.priority.id")
+    List<TaskCount> countByPriority();
+
+    @Query("select new com.example.app.dto.task.TaskCount(t.assignee.id, count(t)) from Task t "
+            + "where t.assignee is not null group by t.assignee.id")
+    List<TaskCount> countByAssignee();
+
+    @Query("select new com.example.app.dto.task.TaskStamp(t.id, t.updatedAt) from Task t where t.id in :ids")
+    List<TaskStamp> findStampsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.example.app.dto.task.TaskView(t.id, t.title, t.description, t.status.name, "
+            + "t.priority.priorityName, t.author.id, t.assignee.id, t.createdAt, t.updatedAt) "
+            + "from Task t where t.id in :ids order by t.id desc")
+    List<TaskView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT a.id FROM (SELECT t.id, "
+            + "ROW_NUMBER() OVER (PARTITION BY t.author_id ORDER BY t.id DESC) AS rn "
+            + "FROM tasks t WHERE t.author_id IN (:userIds)) a WHERE a.rn <= :limit "
+            + "UNION "
+            + "SELECT b.id FROM (SELECT t.id, "
+            + "ROW_NUMBER() OVER (PARTITION BY t.assignee_id ORDER BY t.id DESC) AS rn "
+            + "FROM tasks t WHERE t.assignee_id IN (:userIds)) b WHERE b.rn <= :limit",
+            nativeQuery = true)
+    List<Long> findLatestIdsByUserIds(@Param("userIds") Collection<Long> userIds, @Param("limit") int limit);
 }
@@ -0,0 +1,20 @@
+package com.example.app.repositories;
+
+import com.example.app.dto.task.TaskView;
+import com.example.app.models.Task;
+import com.example.app.specification.TaskCursor;
+import com.example.app.specification.TaskFilter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+    List<TaskView> findViews(Specification<Task> specification, Sort sort, long offset, int limit);
+    List<TaskView> findViews(TaskFilter filter, Sort.Order order, TaskCursor after, long offset, int limit);
+    Stream<TaskView> streamViews(TaskFilter filter, Sort.Order order, int fetchSize);
+    long countViews(TaskFilter filter);
+    OptionalLong estimateCount(TaskFilter filter);
+}
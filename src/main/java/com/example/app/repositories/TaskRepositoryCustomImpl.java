@@ -0,0 +1,170 @@
+package com.example.app.repositories;
+
+import com.example.app.dto.task.TaskView;
+import com.example.app.models.Task;
+import com.example.app.specification.TaskCursor;
+import com.example.app.specification.TaskFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Slf4j
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TaskQueryCatalog queryCatalog;
+
+    public TaskRepositoryCustomImpl(TaskQueryCatalog queryCatalog) {
+        this.queryCatalog = queryCatalog;
+    }
+
+    @Override
+    public List<TaskView> findViews(Specification<Task> specification, Sort sort, long offset, int limit) {
+        return createViewQuery(specification, sort)
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<TaskView> findViews(TaskFilter filter, Sort.Order order, TaskCursor after, long offset, int limit) {
+        return createViewQuery(filter, order, after)
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<TaskView> streamViews(TaskFilter filter, Sort.Order order, int fetchSize) {
+        return createViewQuery(filter, order, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public long countViews(TaskFilter filter) {
+        var query = entityManager.createQuery(queryCatalog.countQuery(filter), Long.class);
+        bindFilter(query, filter);
+        return query.getSingleResult();
+    }
+
+    private TypedQuery<TaskView> createViewQuery(Specification<Task> specification, Sort sort) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var query = criteriaBuilder.createQuery(TaskView.class);
+        var root = query.from(Task.class);
+
+        var predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(criteriaBuilder.construct(TaskView.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("status").get("name"),
+                root.get("priority").get("priorityName"),
+                root.get("author").get("id"),
+                root.get("assignee").get("id"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+
+        return entityManager.createQuery(query);
+    }
+
+    private TypedQuery<TaskView> createViewQuery(TaskFilter filter, Sort.Order order, TaskCursor after) {
+        var query = entityManager.createQuery(queryCatalog.viewQuery(filter, order, after != null), TaskView.class);
+        bindFilter(query, filter);
+        if (after != null) {
+            query.setParameter("afterId", after.getId());
+            if (!"id".equals(after.getProperty())) {
+                query.setParameter("afterValue", after.sortKey());
+            }
+        }
+        return query;
+    }
+
+    private static void bindFilter(TypedQuery<?> query, TaskFilter filter) {
+        if (filter.authorId() != null) {
+            query.setParameter("authorId", filter.authorId());
+        }
+        if (filter.assigneeId() != null) {
+            query.setParameter("assigneeId", filter.assigneeId());
+        }
+        if (filter.statusIds() != null) {
+            query.setParameter("statusIds", filter.statusIds());
+        }
+        if (filter.priorityIds() != null) {
+            query.setParameter("priorityIds", filter.priorityIds());
+        }
+    }
+
+    @Override
+    public OptionalLong estimateCount(TaskFilter filter) {
+        var dialect = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect();
+        if (!(dialect instanceof PostgreSQLDialect)) {
+            log.info("Planner estimates are not supported by dialect: {}", dialect);
+            return OptionalLong.empty();
+        }
+
+        var sql = new StringBuilder("EXPLAIN SELECT t.id FROM tasks t");
+        var conditions = new ArrayList<String>();
+        var values = new ArrayList<Object>();
+
+        if (filter.statusIds() != null) {
+            values.add(filter.statusIds());
+            conditions.add("t.status_id IN (?" + values.size() + ")");
+        }
+        if (filter.priorityIds() != null) {
+            values.add(filter.priorityIds());
+            conditions.add("t.priority_id IN (?" + values.size() + ")");
+        }
+        if (filter.authorId() != null) {
+            values.add(filter.authorId());
+            conditions.add("t.author_id = ?" + values.size());
+        }
+        if (filter.assigneeId() != null) {
+            values.add(filter.assigneeId());
+            conditions.add("t.assignee_id = ?" + values.size());
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+
+        var query = entityManager.createNativeQuery(sql.toString());
+        for (int i = 0; i < values.size(); i++) {
+            query.setParameter(i + 1, values.get(i));
+        }
+
+        var plan = query.getResultList();
+        if (plan.isEmpty()) {
+            return OptionalLong.empty();
+        }
+
+        var matcher = PLAN_ROWS.matcher(String.valueOf(plan.get(0)));
+        return matcher.find() ? OptionalLong.of(Long.parseLong(matcher.group(1))) : OptionalLong.empty();
+    }
+}
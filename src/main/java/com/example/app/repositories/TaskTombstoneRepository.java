@@ -0,0 +1,25 @@
+package com.example.app.repositories;
+
+import com.example.app.models.TaskTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+    @Query("select t from TaskTombstone t where t.deletedAt > :since and t.deletedAt <= :until "
+            + "order by t.deletedAt, t.id")
+    List<TaskTombstone> findDeletedBetween(@Param("since") LocalDateTime since,
+                                           @Param("until") LocalDateTime until,
+                                           Pageable pageable);
+
+    @Modifying
+    @Query("delete from TaskTombstone t where t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,7 +1,6 @@
 package com.example.app.services;
 
-import com.example.app.exception.ResourceNotFoundException;
-import com.example.app.repositories.UserRepository;
+import com.example.app.component.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,17 +12,13 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsManager {
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         log.info("Attempting to load user by email: {}", email);
 
-        var user = userRepository.findByEmail(email)
-                .orElseThrow(() -> {
-                    log.error("User with email: {} not found", email);
-                    return new ResourceNotFoundException("User with email: " + email + " not found");
-                });
+        var user = principalCache.get(email).toUserDetails();
 
         log.info("Successfully loaded user with email: {}", email);
         return user;
@@ -0,0 +1,181 @@
+package com.example.app.services;
+
+import com.example.app.component.ResourceVersions;
+import com.example.app.component.ResourceVersions.Resource;
+import com.example.app.component.TaskCounters;
+import com.example.app.component.TaskEventPublisher;
+import com.example.app.dto.task.TaskBulkResultDTO;
+import com.example.app.dto.task.TaskBulkUpdateDTO;
+import com.example.app.dto.task.TaskChangeEvent;
+import com.example.app.dto.task.TaskChangeEvent.Action;
+import com.example.app.dto.task.TaskCreateDTO;
+import com.example.app.exception.ResourceNotFoundException;
+import com.example.app.mappers.TaskMapper;
+import com.example.app.models.Task;
+import com.example.app.models.TaskTombstone;
+import com.example.app.repositories.TaskRepository;
+import com.example.app.repositories.TaskTombstoneRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Applies task writes in chunks, one transaction per chunk, and reports a result for every item.
+ * Items rejected by validation or lookups are skipped inside the chunk; when the database rejects
+ * a chunk, its items are retried one per transaction so only the offending ones fail.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskBulkService {
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ResourceVersions resourceVersions;
+    private final TaskCounters taskCounters;
+    private final TaskEventPublisher taskEventPublisher;
+
+    @Value("${tasks.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${tasks.bulk.max-items:10000}")
+    private int maxItems;
+
+    public List<TaskBulkResultDTO> createTasks(List<TaskCreateDTO> createDTOs) {
+        log.info("Bulk creating {} tasks", createDTOs.size());
+        return process(createDTOs, chunk -> { }, createDTO -> {
+            var model = taskMapper.map(createDTO);
+            taskRepository.save(model);
+            taskCounters.added(model);
+            taskEventPublisher.publish(TaskChangeEvent.ofTask(Action.CREATED, model));
+            return model.getId();
+        }, HttpStatus.CREATED);
+    }
+
+    public List<TaskBulkResultDTO> updateTasks(List<TaskBulkUpdateDTO> updateDTOs) {
+        log.info("Bulk updating {} tasks", updateDTOs.size());
+        return process(updateDTOs, chunk -> preload(chunk.stream()
+                .filter(Objects::nonNull)
+                .map(TaskBulkUpdateDTO::getId)), updateDTO -> {
+            var model = findTask(updateDTO.getId());
+            var counted = TaskCounters.Key.of(model);
+            try {
+                taskMapper.update(updateDTO, model);
+            } catch (RuntimeException ex) {
+                entityManager.detach(model);
+                throw ex;
+            }
+            taskCounters.moved(counted, model);
+            taskEventPublisher.publish(TaskChangeEvent.ofTask(Action.UPDATED, model));
+            return model.getId();
+        }, HttpStatus.OK);
+    }
+
+    public List<TaskBulkResultDTO> deleteTasks(List<Long> ids) {
+        log.info("Bulk deleting {} tasks", ids.size());
+        return process(ids, chunk -> preload(chunk.stream()), id -> {
+            var task = findTask(id);
+            taskRepository.delete(task);
+            tombstoneRepository.save(new TaskTombstone(TaskTombstone.Kind.TASK, id, id));
+            taskCounters.removed(task);
+            taskEventPublisher.publish(TaskChangeEvent.ofTask(Action.DELETED, task));
+            return id;
+        }, HttpStatus.NO_CONTENT);
+    }
+
+    private <T> List<TaskBulkResultDTO> process(List<T> items, Consumer<List<T>> preload,
+                                                Function<T, Long> operation, HttpStatus success) {
+        if (items.size() > maxItems) {
+            log.error("Bulk request with {} items exceeds the limit of {}", items.size(), maxItems);
+            throw new IllegalArgumentException("Bulk request must not contain more than " + maxItems + " items");
+        }
+
+        var results = new ArrayList<TaskBulkResultDTO>(items.size());
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            var chunk = items.subList(from, Math.min(from + chunkSize, items.size()));
+            results.addAll(processChunk(chunk, from, preload, operation, success));
+            resourceVersions.changed(Resource.TASKS);
+        }
+
+        log.info("Bulk request finished: {} of {} items succeeded",
+                results.stream().filter(result -> result.getError() == null).count(), items.size());
+        return results;
+    }
+
+    private <T> List<TaskBulkResultDTO> processChunk(List<T> chunk, int offset, Consumer<List<T>> preload,
+                                                     Function<T, Long> operation, HttpStatus success) {
+        try {
+            return transactionTemplate.execute(status -> {
+                preload.accept(chunk);
+                var results = new ArrayList<TaskBulkResultDTO>(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    results.add(apply(chunk.get(i), offset + i, operation, success));
+                }
+                entityManager.flush();
+                entityManager.clear();
+                return results;
+            });
+        } catch (DataAccessException | PersistenceException | TransactionException ex) {
+            if (chunk.size() == 1) {
+                log.error("Bulk item {} rejected by the database", offset, ex);
+                return List.of(new TaskBulkResultDTO(offset, null, HttpStatus.CONFLICT.value(),
+                        "Item was rejected by the database"));
+            }
+
+            log.warn("Bulk chunk starting at item {} failed, retrying its {} items one by one",
+                    offset, chunk.size(), ex);
+            var results = new ArrayList<TaskBulkResultDTO>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                results.addAll(processChunk(chunk.subList(i, i + 1), offset + i, preload, operation, success));
+            }
+            return results;
+        }
+    }
+
+    private <T> TaskBulkResultDTO apply(T item, int index, Function<T, Long> operation, HttpStatus success) {
+        try {
+            var violations = validator.validate(item);
+            if (!violations.isEmpty()) {
+                var message = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+                return new TaskBulkResultDTO(index, null, HttpStatus.BAD_REQUEST.value(), message);
+            }
+            return new TaskBulkResultDTO(index, operation.apply(item), success.value(), null);
+        } catch (ResourceNotFoundException ex) {
+            return new TaskBulkResultDTO(index, null, HttpStatus.NOT_FOUND.value(), ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            return new TaskBulkResultDTO(index, null, HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+        }
+    }
+
+    private void preload(Stream<Long> ids) {
+        taskRepository.findAllById(ids.filter(Objects::nonNull).collect(Collectors.toList()));
+    }
+
+    private Task findTask(Long id) {
+        return taskRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task with id: " + id + " not found"));
+    }
+}
@@ -1,53 +1,102 @@
 package com.example.app.services;
 
+import com.example.app.component.ResourceVersions;
+import com.example.app.component.ResourceVersions.Resource;
+import com.example.app.component.ResourceVersions.VersionTag;
+import com.example.app.component.TaskEventPublisher;
+import com.example.app.dto.task.TaskChangeEvent;
+import com.example.app.dto.task.TaskChangeEvent.Action;
 import com.example.app.dto.taskComment.TaskCommentCreateDTO;
 import com.example.app.dto.taskComment.TaskCommentDTO;
+import com.example.app.dto.taskComment.TaskCommentSliceDTO;
 import com.example.app.dto.taskComment.TaskCommentUpdateDTO;
+import com.example.app.dto.taskComment.TaskCommentView;
 import com.example.app.exception.ResourceNotFoundException;
 import com.example.app.mappers.TaskCommentMapper;
+import com.example.app.models.TaskTombstone;
 import com.example.app.repositories.TaskCommentRepository;
 import com.example.app.repositories.TaskRepository;
+import com.example.app.repositories.TaskTombstoneRepository;
+import com.example.app.specification.TaskCommentCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TaskCommentService {
+    private static final int MAX_LIMIT = 200;
+
     private final TaskCommentRepository commentRepository;
     private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
     private final TaskCommentMapper commentMapper;
+    private final ResourceVersions resourceVersions;
+    private final TaskEventPublisher taskEventPublisher;
+
+    @Transactional(readOnly = true)
+    public Optional<VersionTag> getCommentsVersion(Long taskId) {
+        return taskRepository.findVersionById(taskId)
+                .map(version -> resourceVersions.tag("comments-" + taskId + "-"
+                                + ResourceVersions.stamp(version.commentsUpdatedAt()) + "-" + version.commentCount(),
+                        ResourceVersions.toInstant(version.commentsUpdatedAt()))
+                        .notBefore(resourceVersions.lastModified(Resource.COMMENTS)));
+    }
 
-    public List<TaskCommentDTO> getAllCommentsForTask(Long taskId) {
-        log.info("Fetching all comments for task with id: {}", taskId);
-        var task = taskRepository.findById(taskId)
-                .orElseThrow(() -> {
-                    log.error("Task with id: {} not found.", taskId);
-                    return new ResourceNotFoundException("Task with id: " + taskId + " not found");
-                });
+    @Transactional(readOnly = true)
+    public Optional<VersionTag> getCommentVersion(Long taskId, Long id) {
+        return commentRepository.findUpdatedAtByIdAndTaskId(id, taskId)
+                .map(updatedAt -> resourceVersions.tag("comment-" + id + "-" + ResourceVersions.stamp(updatedAt),
+                        ResourceVersions.toInstant(updatedAt)));
+    }
 
-        var comments = commentRepository.findByTaskId(task.getId()).stream()
+    @Transactional(readOnly = true)
+    public TaskCommentSliceDTO getCommentsForTask(Long taskId, int limit, String cursor) {
+        log.info("Fetching comments for task with id: {}, limit: {}, cursor: {}", taskId, limit, cursor);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            log.error("Invalid comment limit provided: {}", limit);
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        if (!taskRepository.existsById(taskId)) {
+            log.error("Task with id: {} not found.", taskId);
+            throw new ResourceNotFoundException("Task with id: " + taskId + " not found");
+        }
+
+        TaskCommentCursor after = cursor == null || cursor.isBlank() ? null : TaskCommentCursor.decode(cursor);
+        var pageable = PageRequest.of(0, limit + 1);
+        List<TaskCommentView> comments = after == null
+                ? commentRepository.findViewsByTaskId(taskId, pageable)
+                : commentRepository.findViewsByTaskIdAfter(taskId, after.getCreatedAt(), after.getId(), pageable);
+
+        boolean hasNext = comments.size() > limit;
+        var content = hasNext ? comments.subList(0, limit) : comments;
+        String nextCursor = hasNext ? TaskCommentCursor.after(content.get(limit - 1)).encode() : null;
+        long totalCount = commentRepository.countByTaskId(taskId);
+
+        log.info("Successfully fetched {} of {} comments for task with id: {}", content.size(), totalCount, taskId);
+        return new TaskCommentSliceDTO(content.stream()
                 .map(commentMapper::map)
-                .collect(Collectors.toList());
-
-        log.info("Successfully fetched {} comments for task with id: {}", comments.size(), taskId);
-        return comments;
+                .collect(Collectors.toList()), totalCount, nextCursor);
     }
 
+    @Transactional(readOnly = true)
     public TaskCommentDTO getCommentForTask(Long taskId, Long id) {
         log.info("Fetching comment with id: {} for task with id: {}", id, taskId);
 
-        var task = taskRepository.findById(taskId)
-                .orElseThrow(() -> {
-                    log.error("Task with id: {} not found.", taskId);
-                    return new ResourceNotFoundException("Task with id: " + taskId + " not found");
-                });
+        if (!taskRepository.existsById(taskId)) {
+            log.error("Task with id: {} not found.", taskId);
+            throw new ResourceNotFoundException("Task with id: " + taskId + " not found");
+        }
 
-        var taskComment = commentRepository.findByIdAndTaskId(id, taskId)
+        var taskComment = commentRepository.findViewByIdAndTaskId(id, taskId)
                 .orElseThrow(() -> {
                     log.error("Comment with id: {} not found for task with id: {}", id, taskId);
                     return new ResourceNotFoundException("Task comment with id: " + id
@@ -58,25 +107,29 @@ public class TaskCommentService {
         return commentMapper.map(taskComment);
     }
 
+    @Transactional
     public TaskCommentDTO createCommentForTask(Long taskId, TaskCommentCreateDTO createDTO) {
-        var task = taskRepository.findById(taskId)
-                .orElseThrow(() -> {
-                    log.error("Task with id: {} not found.", taskId);
-                    return new ResourceNotFoundException("Task with id: " + taskId + " not found");
-                });
+        if (!taskRepository.existsById(taskId)) {
+            log.error("Task with id: {} not found.", taskId);
+            throw new ResourceNotFoundException("Task with id: " + taskId + " not found");
+        }
 
         var taskComment = commentMapper.map(createDTO);
-        taskComment.setTask(task);
+        taskComment.setTask(taskRepository.getReferenceById(taskId));
         commentRepository.save(taskComment);
+        taskEventPublisher.publish(
+                TaskChangeEvent.ofComment(Action.CREATED, taskComment.getTask(), taskComment.getId()));
+        resourceVersions.changed(Resource.TASKS);
+        resourceVersions.changed(Resource.COMMENTS);
         return commentMapper.map(taskComment);
     }
 
+    @Transactional
     public TaskCommentDTO updateCommentForTask(Long taskId, TaskCommentUpdateDTO updateDTO, Long id) {
-        var task = taskRepository.findById(taskId)
-                .orElseThrow(() -> {
-                    log.error("Task with id: {} not found.", taskId);
-                    return new ResourceNotFoundException("Task with id: " + taskId + " not found");
-                });
+        if (!taskRepository.existsById(taskId)) {
+            log.error("Task with id: {} not found.", taskId);
+            throw new ResourceNotFoundException("Task with id: " + taskId + " not found");
+        }
 
         var taskComment = commentRepository.findByIdAndTaskId(id, taskId)
                 .orElseThrow(() -> {
@@ -87,15 +140,18 @@ public class TaskCommentService {
 
         commentMapper.update(updateDTO, taskComment);
         commentRepository.save(taskComment);
+        taskEventPublisher.publish(TaskChangeEvent.ofComment(Action.UPDATED, taskComment.getTask(), id));
+        resourceVersions.changed(Resource.TASKS);
+        resourceVersions.changed(Resource.COMMENTS);
         return commentMapper.map(taskComment);
     }
 
+    @Transactional
     public void deleteCommentForTask(Long taskId, Long id) {
-        var task = taskRepository.findById(taskId)
-                .orElseThrow(() -> {
-                    log.error("Task with id: {} not found.", taskId);
-                    return new ResourceNotFoundException("Task with id: " + taskId + " not found");
-                });
+        if (!taskRepository.existsById(taskId)) {
+            log.error("Task with id: {} not found.", taskId);
+            throw new ResourceNotFoundException("Task with id: " + taskId + " not found");
+        }
 
         var taskComment = commentRepository.findByIdAndTaskId(id, taskId)
                 .orElseThrow(() -> {
@@ -105,5 +161,9 @@ public class TaskCommentService {
                 });
 
         commentRepository.delete(taskComment);
+        tombstoneRepository.save(new TaskTombstone(TaskTombstone.Kind.COMMENT, id, taskId));
+        taskEventPublisher.publish(TaskChangeEvent.ofComment(Action.DELETED, taskComment.getTask(), id));
+        resourceVersions.changed(Resource.TASKS);
+        resourceVersions.changed(Resource.COMMENTS);
     }
 }
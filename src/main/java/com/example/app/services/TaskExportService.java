@@ -0,0 +1,118 @@
+package com.example.app.services;
+
+import com.example.app.dto.specificationDTO.TaskExportFormat;
+import com.example.app.dto.specificationDTO.TaskParamDTO;
+import com.example.app.dto.task.TaskView;
+import com.example.app.mappers.TaskMapper;
+import com.example.app.repositories.TaskRepository;
+import com.example.app.specification.TaskSpecification;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Streams every task matching the list filters straight from a forward-only cursor to the response,
+ * one row at a time, so memory use does not depend on the size of the export.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+    private static final String[] CSV_HEADER = {"id", "title", "description", "status", "priority",
+        "author_id", "assignee_id", "created_at", "updated_at"};
+
+    private final TaskRepository taskRepository;
+    private final TaskSpecification taskSpecification;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+
+    @Value("${tasks.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Transactional(readOnly = true)
+    public long exportTasks(TaskParamDTO paramDTO, TaskExportFormat format, OutputStream outputStream)
+            throws IOException {
+        log.info("Exporting tasks with parameters: {} as {}", paramDTO, format);
+
+        var filter = taskSpecification.resolve(paramDTO);
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long rows = 0;
+
+        Stream<TaskView> views = filter.matchesNothing()
+                ? Stream.empty()
+                : taskRepository.streamViews(filter, Sort.Order.asc("id"), fetchSize);
+
+        try (var tasks = views) {
+            if (format == TaskExportFormat.CSV) {
+                writeCsvRow(writer, CSV_HEADER);
+            }
+            for (var iterator = tasks.iterator(); iterator.hasNext(); rows++) {
+                var task = iterator.next();
+                if (format == TaskExportFormat.CSV) {
+                    writeCsvRow(writer, toCsvRow(task));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(taskMapper.map(task)));
+                    writer.write('\n');
+                }
+            }
+        }
+        writer.flush();
+
+        log.info("Successfully exported {} tasks as {}", rows, format);
+        return rows;
+    }
+
+    // built from the same DTO serialization as NDJSON, so both formats carry the same timestamp format
+    private String[] toCsvRow(TaskView task) {
+        JsonNode json = objectMapper.valueToTree(taskMapper.map(task));
+        return new String[] {
+            text(json, "id"),
+            text(json, "title"),
+            text(json, "description"),
+            text(json, "status"),
+            text(json, "priority"),
+            text(json, "author_id"),
+            text(json, "assignee_id"),
+            text(json, "createdAt"),
+            text(json, "updatedAt")
+        };
+    }
+
+    private static String text(JsonNode json, String field) {
+        var value = json.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.app.services;
 
+import com.example.app.component.ResourceVersions;
+import com.example.app.component.ResourceVersions.Resource;
+import com.example.app.component.ResourceVersions.VersionTag;
 import com.example.app.dto.taskPriority.TaskPriorityCreateDTO;
 import com.example.app.dto.taskPriority.TaskPriorityDTO;
 import com.example.app.dto.taskPriority.TaskPriorityUpdateDTO;
@@ -11,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,6 +24,11 @@ import java.util.stream.Collectors;
 public class TaskPriorityService {
     private final TaskPriorityRepository priorityRepository;
     private final TaskPriorityMapper priorityMapper;
+    private final ResourceVersions resourceVersions;
+
+    public VersionTag getVersion() {
+        return resourceVersions.tag("priorities", Instant.EPOCH, Resource.PRIORITIES);
+    }
 
     public List<TaskPriorityDTO> getAllPriority() {
         var priorities = priorityRepository.findAll();
@@ -52,6 +61,7 @@ public class TaskPriorityService {
 
         var model = priorityMapper.map(createDTO);
         priorityRepository.save(model);
+        resourceVersions.changed(Resource.PRIORITIES);
         log.info("Successfully created task priority with name: {}", createDTO.getPriorityName());
         return priorityMapper.map(model);
     }
@@ -67,6 +77,7 @@ public class TaskPriorityService {
 
         priorityMapper.update(updateDTO, model);
         priorityRepository.save(model);
+        resourceVersions.changed(Resource.PRIORITIES);
         log.info("Successfully updated task priority with id: {}", id);
         return priorityMapper.map(model);
     }
@@ -85,6 +96,7 @@ public class TaskPriorityService {
             throw new LinkingTasksToAnotherEntityException("Task priority cannot be deleted, they have assigned tasks");
         }
         priorityRepository.deleteById(id);
+        resourceVersions.changed(Resource.PRIORITIES);
         log.info("Successfully deleted task priority with id: {}", id);
     }
 }
@@ -1,14 +1,33 @@
 package com.example.app.services;
 
+import com.example.app.component.ReferenceDataCache;
+import com.example.app.component.ResourceVersions;
+import com.example.app.component.ResourceVersions.Resource;
+import com.example.app.component.ResourceVersions.VersionTag;
+import com.example.app.component.TaskChangeStream;
+import com.example.app.component.TaskCounters;
+import com.example.app.component.TaskEventPublisher;
+import com.example.app.dto.specificationDTO.TaskCountMode;
 import com.example.app.dto.specificationDTO.TaskParamDTO;
+import com.example.app.dto.task.TaskChangeEvent;
+import com.example.app.dto.task.TaskChangeEvent.Action;
 import com.example.app.dto.task.TaskCreateDTO;
 import com.example.app.dto.task.TaskDTO;
+import com.example.app.dto.task.TaskPageDTO;
+import com.example.app.dto.task.TaskSliceDTO;
+import com.example.app.dto.task.TaskStatsDTO;
 import com.example.app.dto.task.TaskUpdateDTO;
 import com.example.app.dto.task.TaskUpdateForAssigneeDTO;
+import com.example.app.dto.task.TaskVersion;
+import com.example.app.dto.task.TaskView;
 import com.example.app.exception.ResourceNotFoundException;
 import com.example.app.mappers.TaskMapper;
 import com.example.app.models.Task;
+import com.example.app.models.TaskTombstone;
+import com.example.app.repositories.TaskQueryCatalog;
 import com.example.app.repositories.TaskRepository;
+import com.example.app.repositories.TaskTombstoneRepository;
+import com.example.app.specification.TaskCursor;
 import com.example.app.specification.TaskSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,106 +35,249 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TaskService {
+    private static final int PAGE_SIZE = 10;
+
     private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
     private final TaskMapper taskMapper;
     private final TaskSpecification taskSpecification;
+    private final TaskQueryCatalog queryCatalog;
+    private final ResourceVersions resourceVersions;
+    private final TaskCounters taskCounters;
+    private final ReferenceDataCache referenceDataCache;
+    private final TaskChangeStream taskChangeStream;
+    private final TaskEventPublisher taskEventPublisher;
 
-    public List<TaskDTO> getAllTask(TaskParamDTO paramDTO, int page, String sort) {
-        log.info("Fetching tasks with parameters: {}, page: {}, sort: {}", paramDTO, page, sort);
+    @Transactional(readOnly = true)
+    public TaskPageDTO getAllTask(TaskParamDTO paramDTO, int page, String sort, String count) {
+        log.info("Fetching tasks with parameters: {}, page: {}, sort: {}, count: {}", paramDTO, page, sort, count);
 
-        String[] sortParams = sort.split(",");
+        Sort sortOrder = parseSort(sort);
+        TaskCountMode countMode = parseCountMode(count);
+        var filter = taskSpecification.resolve(paramDTO);
+        if (filter.matchesNothing()) {
+            log.info("No task status or priority matches the parameters: {}", paramDTO);
+            return new TaskPageDTO(new ArrayList<>(), countMode == TaskCountMode.NONE ? null : 0L, false);
+        }
 
-        if (sortParams.length != 2 || (!sortParams[1].equals("asc") && !sortParams[1].equals("desc"))) {
-            log.error("Invalid sort direction provided: {}", sort);
-            throw new IllegalArgumentException("Invalid sort direction");
+        Pageable pageable = PageRequest.of(page - 1, PAGE_SIZE, sortOrder);
+        Sort.Order order = sortOrder.iterator().next();
+
+        List<TaskView> tasks;
+        if (queryCatalog.supports(order)) {
+            tasks = taskRepository.findViews(filter, order, null, pageable.getOffset(), PAGE_SIZE);
+        } else {
+            queryCatalog.recordMiss();
+            Specification<Task> specification = taskSpecification.build(paramDTO, null);
+            tasks = taskRepository.findViews(specification, sortOrder, pageable.getOffset(), PAGE_SIZE);
         }
+        Long totalCount = null;
+        boolean totalEstimated = false;
 
-        Sort sortOrder = Sort.by(
-                sortParams[1].equals("asc") ? Sort.Order.asc(sortParams[0].trim())
-                        : Sort.Order.desc(sortParams[0].trim())
-        );
+        if (countMode == TaskCountMode.EXACT) {
+            totalCount = PageableExecutionUtils.getPage(tasks, pageable, () -> taskRepository.countViews(filter))
+                    .getTotalElements();
+        } else if (countMode == TaskCountMode.ESTIMATE) {
+            var estimate = taskRepository.estimateCount(filter);
+            totalEstimated = estimate.isPresent();
+            totalCount = estimate.isPresent() ? estimate.getAsLong() : taskRepository.countViews(filter);
+        }
 
-        Specification<Task> specification = taskSpecification.build(paramDTO, sortOrder);
-        Pageable pageable = PageRequest.of(page - 1, 10, sortOrder);
+        log.info("Successfully fetched {} tasks, total size: {}, estimated: {}",
+                tasks.size(), totalCount, totalEstimated);
+        return new TaskPageDTO(taskMapper.mapAll(tasks), totalCount, totalEstimated);
+    }
 
-        log.info("Successfully fetched tasks, total size: {}",
-                taskRepository.findAll(specification, pageable).getTotalElements());
+    @Transactional(readOnly = true)
+    public TaskSliceDTO getTasksAfterCursor(TaskParamDTO paramDTO, String cursor, String sort) {
+        log.info("Fetching tasks with parameters: {}, cursor: {}, sort: {}", paramDTO, cursor, sort);
 
-        return taskRepository.findAll(specification, pageable)
-                .stream()
-                .map(taskMapper::map)
-                .collect(Collectors.toList());
+        Sort.Order order = parseSort(sort).iterator().next();
+        if (!TaskCursor.supports(order.getProperty())) {
+            log.error("Sort property: {} is not supported for cursor pagination", order.getProperty());
+            throw new IllegalArgumentException("Sort property " + order.getProperty()
+                    + " is not supported for cursor pagination");
+        }
+
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor);
+        if (after != null && !after.matches(order)) {
+            log.error("Cursor: {} does not match sort: {}", after, sort);
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+        var filter = taskSpecification.resolve(paramDTO);
+        if (filter.matchesNothing()) {
+            log.info("No task status or priority matches the parameters: {}", paramDTO);
+            return new TaskSliceDTO(new ArrayList<>(), null);
+        }
+
+        List<TaskView> tasks = taskRepository.findViews(filter, order, after, 0, PAGE_SIZE + 1);
+        boolean hasNext = tasks.size() > PAGE_SIZE;
+        var content = taskMapper.mapAll(hasNext ? tasks.subList(0, PAGE_SIZE) : tasks);
+        String nextCursor = hasNext ? TaskCursor.after(content.get(PAGE_SIZE - 1), order).encode() : null;
+
+        log.info("Successfully fetched {} tasks, has next page: {}", content.size(), hasNext);
+        return new TaskSliceDTO(content, nextCursor);
     }
 
+    @Transactional(readOnly = true)
+    public VersionTag getListVersion() {
+        return resourceVersions.tag("tasks", Instant.EPOCH, Resource.TASKS, Resource.STATUSES, Resource.PRIORITIES);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<VersionTag> getTaskVersion(Long id) {
+        return taskRepository.findVersionById(id)
+                .map(version -> resourceVersions.tag(taskKey(version), lastModified(version),
+                                Resource.STATUSES, Resource.PRIORITIES)
+                        // a deleted comment leaves no timestamp behind, only the collection counter moves
+                        .notBefore(resourceVersions.lastModified(Resource.COMMENTS)));
+    }
+
+    @Transactional(readOnly = true)
     public TaskDTO getTask(Long id) {
         log.info("Fetching task with id: {}", id);
 
-        var model = taskRepository.findById(id)
+        var view = taskRepository.findViewById(id)
                 .orElseThrow(() -> {
                     log.error("Task with id: {} not found", id);
                     return new ResourceNotFoundException("Task with id: " + id + " not found");
                 });
 
         log.info("Successfully fetched task with id: {}", id);
-        return taskMapper.map(model);
+        return taskMapper.mapAll(List.of(view)).get(0);
     }
 
+    public TaskStatsDTO getStats() {
+        var snapshot = taskCounters.snapshot();
+        return new TaskStatsDTO(snapshot.total(),
+                named(snapshot.byStatus(), referenceDataCache.statusNames()),
+                named(snapshot.byPriority(), referenceDataCache.priorityNames()),
+                snapshot.byAssignee(), snapshot.reconciledAt());
+    }
+
+    public SseEmitter subscribeToChanges(TaskParamDTO paramDTO, String lastEventId) {
+        log.info("Subscribing to task changes with parameters: {}, after event: {}", paramDTO, lastEventId);
+        return taskChangeStream.subscribe(taskSpecification.resolve(paramDTO), lastEventId);
+    }
+
+    @Transactional
     public TaskDTO createTask(TaskCreateDTO createDTO) {
         log.info("Creating task with details: {}", createDTO);
         var model = taskMapper.map(createDTO);
         taskRepository.save(model);
+        taskCounters.added(model);
+        taskEventPublisher.publish(TaskChangeEvent.ofTask(Action.CREATED, model));
+        resourceVersions.changed(Resource.TASKS);
         log.info("Task created successfully with id: {}", model.getId());
         return taskMapper.map(model);
     }
 
+    @Transactional
     public TaskDTO updateTask(TaskUpdateDTO updateDTO, Long id) {
         log.info("Updating task with id: {}, new data: {}", id, updateDTO);
 
-        var model = taskRepository.findById(id)
+        var model = taskRepository.findWithReferencesById(id)
                 .orElseThrow(() -> {
                     log.error("Task with id: {} not found", id);
                     return new ResourceNotFoundException("Task with id: " + id + " not found");
                 });
 
+        var counted = TaskCounters.Key.of(model);
         taskMapper.update(updateDTO, model);
         taskRepository.save(model);
+        taskCounters.moved(counted, model);
+        taskEventPublisher.publish(TaskChangeEvent.ofTask(Action.UPDATED, model));
+        resourceVersions.changed(Resource.TASKS);
         log.info("Task with id: {} updated successfully", id);
         return taskMapper.map(model);
     }
 
+    @Transactional
     public TaskDTO updateTaskForAssignee(TaskUpdateForAssigneeDTO updateForAssigneeDTO, Long id) {
         log.info("Updating assignee for task with id: {}, new assignee data: {}", id, updateForAssigneeDTO);
 
-        var model = taskRepository.findById(id)
+        var model = taskRepository.findWithReferencesById(id)
                 .orElseThrow(() -> {
                     log.error("Task with id: {} not found", id);
                     return new ResourceNotFoundException("Task with id: " + id + " not found");
                 });
 
+        var counted = TaskCounters.Key.of(model);
         taskMapper.updateForAssignee(updateForAssigneeDTO, model);
         taskRepository.save(model);
+        taskCounters.moved(counted, model);
+        taskEventPublisher.publish(TaskChangeEvent.ofTask(Action.UPDATED, model));
+        resourceVersions.changed(Resource.TASKS);
         log.info("Assignee for task with id: {} updated successfully", id);
         return taskMapper.map(model);
     }
 
+    @Transactional
     public void deleteTask(Long id) {
         log.info("Deleting task with id: {}", id);
-        taskRepository.deleteById(id);
+        taskRepository.findById(id).ifPresent(task -> {
+            taskRepository.delete(task);
+            tombstoneRepository.save(new TaskTombstone(TaskTombstone.Kind.TASK, id, id));
+            taskCounters.removed(task);
+            taskEventPublisher.publish(TaskChangeEvent.ofTask(Action.DELETED, task));
+        });
+        resourceVersions.changed(Resource.TASKS);
         log.info("Task with id: {} deleted successfully", id);
     }
 
-    public long totalCountListOfTask(TaskParamDTO paramDTO) {
-        log.info("Counting total tasks with parameters: {}", paramDTO);
-        Specification<Task> specification = taskSpecification.build(paramDTO, null);
-        return taskRepository.count(specification);
+    private static Map<String, Long> named(Map<Long, Long> counts, Map<Long, String> names) {
+        return counts.entrySet().stream()
+                .filter(entry -> names.containsKey(entry.getKey()))
+                .collect(Collectors.toMap(entry -> names.get(entry.getKey()), Map.Entry::getValue));
+    }
+
+    private static String taskKey(TaskVersion version) {
+        return "task-" + version.id() + "-" + ResourceVersions.stamp(version.updatedAt())
+                + "-" + ResourceVersions.stamp(version.commentsUpdatedAt()) + "-" + version.commentCount();
+    }
+
+    private static Instant lastModified(TaskVersion version) {
+        var updatedAt = ResourceVersions.toInstant(version.updatedAt());
+        var commentsUpdatedAt = ResourceVersions.toInstant(version.commentsUpdatedAt());
+        return commentsUpdatedAt.isAfter(updatedAt) ? commentsUpdatedAt : updatedAt;
+    }
+
+    private Sort parseSort(String sort) {
+        String[] sortParams = sort.split(",");
+
+        if (sortParams.length != 2 || (!sortParams[1].equals("asc") && !sortParams[1].equals("desc"))) {
+            log.error("Invalid sort direction provided: {}", sort);
+            throw new IllegalArgumentException("Invalid sort direction");
+        }
+
+        return Sort.by(
+                sortParams[1].equals("asc") ? Sort.Order.asc(sortParams[0].trim())
+                        : Sort.Order.desc(sortParams[0].trim())
+        );
+    }
+
+    private TaskCountMode parseCountMode(String count) {
+        try {
+            return TaskCountMode.fromValue(count);
+        } catch (IllegalArgumentException ex) {
+            log.error("Invalid count mode provided: {}", count);
+            throw ex;
+        }
     }
 }
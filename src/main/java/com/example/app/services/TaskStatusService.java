@@ -1,5 +1,8 @@
 package com.example.app.services;
 
+import com.example.app.component.ResourceVersions;
+import com.example.app.component.ResourceVersions.Resource;
+import com.example.app.component.ResourceVersions.VersionTag;
 import com.example.app.dto.taskStatus.TaskStatusCreateDTO;
 import com.example.app.dto.taskStatus.TaskStatusDTO;
 import com.example.app.dto.taskStatus.TaskStatusUpdateDTO;
@@ -11,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,6 +24,11 @@ import java.util.stream.Collectors;
 public class TaskStatusService {
     private final TaskStatusRepository taskStatusRepository;
     private final TaskStatusMapper taskStatusMapper;
+    private final ResourceVersions resourceVersions;
+
+    public VersionTag getVersion() {
+        return resourceVersions.tag("statuses", Instant.EPOCH, Resource.STATUSES);
+    }
 
     public List<TaskStatusDTO> getAllStatus() {
         var statuses = taskStatusRepository.findAll();
@@ -52,6 +61,7 @@ public class TaskStatusService {
 
         var model = taskStatusMapper.map(createDTO);
         taskStatusRepository.save(model);
+        resourceVersions.changed(Resource.STATUSES);
 
         log.info("Task status '{}' created successfully", model.getName());
         return taskStatusMapper.map(model);
@@ -68,6 +78,7 @@ public class TaskStatusService {
 
         taskStatusMapper.update(updateDTO, model);
         taskStatusRepository.save(model);
+        resourceVersions.changed(Resource.STATUSES);
         log.info("Task status with id: {} updated successfully", id);
         return taskStatusMapper.map(model);
     }
@@ -87,6 +98,7 @@ public class TaskStatusService {
         }
 
         taskStatusRepository.deleteById(id);
+        resourceVersions.changed(Resource.STATUSES);
         log.info("Task status with id: {} deleted successfully", id);
     }
 }
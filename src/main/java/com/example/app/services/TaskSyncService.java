@@ -0,0 +1,194 @@
+package com.example.app.services;
+
+import com.example.app.component.PrimaryReads;
+import com.example.app.dto.task.TaskSyncDTO;
+import com.example.app.dto.task.TaskTombstoneDTO;
+import com.example.app.dto.task.TaskView;
+import com.example.app.dto.taskComment.TaskCommentView;
+import com.example.app.mappers.TaskCommentMapper;
+import com.example.app.mappers.TaskMapper;
+import com.example.app.models.TaskTombstone;
+import com.example.app.repositories.TaskCommentRepository;
+import com.example.app.repositories.TaskRepository;
+import com.example.app.repositories.TaskTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Delta sync: tasks and comments whose updatedAt, and tombstones whose deletedAt, fall after the client's
+ * watermark. The new watermark never passes the start of a transaction that has written and not yet committed
+ * (on PostgreSQL, from pg_stat_activity), so rows stamped at flush but committed later, however long the
+ * transaction runs, are returned by a later call instead of being skipped. The settle window is subtracted as a
+ * margin for clock differences between the application nodes and the database; on other databases it is the only
+ * guard. Sync reads from the primary, where those transactions commit first.
+ * The limit covers tasks, comments and tombstones together. A page never splits rows sharing one timestamp: it ends
+ * before them, or, when more than limit rows share the first timestamp, it holds that whole group past the limit.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskSyncService {
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TaskRepository taskRepository;
+    private final TaskCommentRepository commentRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final TaskMapper taskMapper;
+    private final TaskCommentMapper commentMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    @Value("${tasks.sync.max-limit:1000}")
+    private int maxLimit;
+
+    @Value("${tasks.sync.settle-window:5s}")
+    private Duration settleWindow;
+
+    @Value("${tasks.sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    @Transactional(readOnly = true)
+    public TaskSyncDTO sync(String watermark, int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            log.error("Invalid sync limit provided: {}", limit);
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxLimit);
+        }
+        // a replica may not have the rows the watermark below already covers
+        PrimaryReads.require();
+
+        var now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        var until = writeHorizon(now).minus(settleWindow);
+        var since = parseWatermark(watermark);
+        // tombstones older than the retention are gone, so such a client has to start over
+        var fullResync = since == null || since.isBefore(now.minus(tombstoneRetention));
+        if (fullResync) {
+            since = BEGINNING;
+        }
+        if (!since.isBefore(until)) {
+            return new TaskSyncDTO(List.of(), List.of(), List.of(), since.toString(), false, fullResync);
+        }
+
+        var page = PageRequest.of(0, limit + 1);
+        var tasks = taskRepository.findViewsUpdatedBetween(since, until, page);
+        var comments = commentRepository.findViewsUpdatedBetween(since, until, page);
+        var tombstones = fullResync
+                ? List.<TaskTombstone>of()
+                : tombstoneRepository.findDeletedBetween(since, until, page);
+
+        // the first limit + 1 rows of each kind hold the first limit + 1 rows of all three together
+        var pageStamps = Stream.of(stamps(tasks, TaskView::updatedAt), stamps(comments, TaskCommentView::updatedAt),
+                        stamps(tombstones, TaskTombstone::getDeletedAt))
+                .flatMap(List::stream)
+                .sorted()
+                .toList();
+        var hasMore = pageStamps.size() > limit;
+        var newWatermark = until;
+        if (hasMore) {
+            var last = pageStamps.get(limit - 1);
+            if (pageStamps.get(limit).isAfter(last)) {
+                newWatermark = last;
+            } else {
+                // rows stamped at the page's last timestamp may continue past the page, so they are all left for
+                // the next call; if the whole page shares that timestamp, the group is returned whole instead
+                var earlier = pageStamps.stream()
+                        .filter(stamp -> stamp.isBefore(last))
+                        .reduce((first, second) -> second);
+                if (earlier.isPresent()) {
+                    newWatermark = earlier.get();
+                } else {
+                    // every row after the watermark is stamped at or after last, so this selects exactly its group
+                    tasks = taskRepository.findViewsUpdatedBetween(since, last, Pageable.unpaged());
+                    comments = commentRepository.findViewsUpdatedBetween(since, last, Pageable.unpaged());
+                    tombstones = fullResync
+                            ? List.of()
+                            : tombstoneRepository.findDeletedBetween(since, last, Pageable.unpaged());
+                    log.info("{} sync rows share the timestamp {}, returned past the limit of {}",
+                            tasks.size() + comments.size() + tombstones.size(), last, limit);
+                    newWatermark = last;
+                }
+            }
+        }
+
+        var upTo = newWatermark;
+        log.info("Sync after {}: up to {}, more: {}", since, upTo, hasMore);
+        return new TaskSyncDTO(
+                tasks.stream()
+                        .filter(view -> !view.updatedAt().isAfter(upTo))
+                        .map(taskMapper::map)
+                        .collect(Collectors.toList()),
+                comments.stream()
+                        .filter(view -> !view.updatedAt().isAfter(upTo))
+                        .map(commentMapper::map)
+                        .collect(Collectors.toList()),
+                tombstones.stream()
+                        .filter(tombstone -> !tombstone.getDeletedAt().isAfter(upTo))
+                        .map(tombstone -> new TaskTombstoneDTO(tombstone.getKind().name().toLowerCase(),
+                                tombstone.getEntityId(), tombstone.getTaskId(), tombstone.getDeletedAt()))
+                        .collect(Collectors.toList()),
+                upTo.toString(), hasMore, fullResync);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.sync.purge-interval:1h}")
+    @Transactional
+    public void purgeTombstones() {
+        var deleted = tombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+        if (deleted > 0) {
+            log.info("Purged {} task tombstones older than {}", deleted, tombstoneRetention);
+        }
+    }
+
+    /**
+     * Start of the oldest transaction that has written and is still open, or now if there is none:
+     * rows stamped before it are all committed.
+     */
+    private LocalDateTime writeHorizon(LocalDateTime now) {
+        if (postgres == null) {
+            postgres = "PostgreSQL".equals(jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName()));
+        }
+        if (!postgres) {
+            return now;
+        }
+        var oldestWriter = jdbcTemplate.queryForObject("select min(xact_start) from pg_stat_activity "
+                + "where backend_xid is not null and pid <> pg_backend_pid()", Timestamp.class);
+        if (oldestWriter == null) {
+            return now;
+        }
+        var horizon = oldestWriter.toLocalDateTime().truncatedTo(ChronoUnit.MICROS);
+        return horizon.isBefore(now) ? horizon : now;
+    }
+
+    private static LocalDateTime parseWatermark(String watermark) {
+        if (watermark == null || watermark.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(watermark);
+        } catch (DateTimeParseException ex) {
+            log.error("Invalid sync watermark provided: {}", watermark);
+            throw new IllegalArgumentException("Invalid watermark", ex);
+        }
+    }
+
+    private static <T> List<LocalDateTime> stamps(List<T> rows, Function<T, LocalDateTime> stamp) {
+        return rows.stream().map(stamp).collect(Collectors.toList());
+    }
+}
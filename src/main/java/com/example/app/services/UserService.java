@@ -1,34 +1,74 @@
 package com.example.app.services;
 
+import com.example.app.component.CredentialCache;
+import com.example.app.component.PrincipalCache;
+import com.example.app.component.ReferenceDataCache;
+import com.example.app.dto.specificationDTO.UserParamDTO;
+import com.example.app.dto.task.TaskDTO;
 import com.example.app.dto.user.UserCreateDTO;
 import com.example.app.dto.user.UserDTO;
+import com.example.app.dto.user.UserPageDTO;
 import com.example.app.dto.user.UserUpdateDTO;
 import com.example.app.exception.ResourceNotFoundException;
+import com.example.app.mappers.TaskMapper;
 import com.example.app.mappers.UserMapper;
 import com.example.app.models.RoleName;
-import com.example.app.repositories.RoleRepository;
+import com.example.app.repositories.TaskRepository;
 import com.example.app.repositories.UserRepository;
+import com.example.app.specification.UserSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String EXPAND_TASKS = "tasks";
+
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final UserMapper userMapper;
+    private final PrincipalCache principalCache;
+    private final CredentialCache credentialCache;
+    private final UserSpecification userSpecification;
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+
+    @Value("${users.expand.tasks-per-user:20}")
+    private int tasksPerUser;
 
-    public List<UserDTO> getAllUsers() {
-        var users = userRepository.findAll();
-        log.info("Fetching all users, size list: {}", users.size());
-        return users.stream()
-                .map(userMapper::map)
+    @Transactional(readOnly = true)
+    public UserPageDTO getAllUsers(UserParamDTO paramDTO, int page, int size, String expand) {
+        log.info("Fetching users with parameters: {}, page: {}, size: {}, expand: {}", paramDTO, page, size, expand);
+        if (page < 1 || size < 1 || size > MAX_PAGE_SIZE) {
+            log.error("Invalid page: {} or size: {} provided", page, size);
+            throw new IllegalArgumentException("Page must be positive and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        boolean expandTasks = parseExpand(expand);
+
+        var users = userRepository.findAll(userSpecification.build(paramDTO),
+                PageRequest.of(page - 1, size, Sort.by("id")));
+        var content = users.getContent().stream()
+                .map(userMapper::mapWithoutTasks)
                 .collect(Collectors.toList());
+        if (expandTasks && !content.isEmpty()) {
+            attachLatestTasks(content);
+        }
+
+        log.info("Successfully fetched {} users, total size: {}", content.size(), users.getTotalElements());
+        return new UserPageDTO(content, users.getTotalElements());
     }
 
     public UserDTO getUser(Long id) {
@@ -45,12 +85,7 @@ public class UserService {
     public UserDTO createUser(UserCreateDTO createDTO) {
         log.info("Creating a new user with email: {}", createDTO.getEmail());
         var model = userMapper.map(createDTO);
-        var role = roleRepository.findByRoleName(RoleName.USER)
-                .orElseThrow(() -> {
-                    log.error("Default role USER not found");
-                    return new ResourceNotFoundException("Default role USER not found");
-                });
-        model.getRoles().add(role);
+        model.getRoles().add(referenceDataCache.findRole(RoleName.USER));
         userRepository.save(model);
         log.info("User with email: {} created successfully", createDTO.getEmail());
         return userMapper.map(model);
@@ -63,15 +98,62 @@ public class UserService {
                     log.error("User with id: {} not found", id);
                     return new ResourceNotFoundException("User with id: " + id + " not found");
                 });
+        var previousEmail = model.getEmail();
         userMapper.update(updateDTO, model);
         userRepository.save(model);
+        principalCache.evictUser(id);
+        credentialCache.evictUser(previousEmail);
         log.info("User with id: {} updated successfully", id);
         return userMapper.map(model);
     }
 
     public void deleteUser(Long id) {
         log.info("Deleting user with id: {}", id);
-        userRepository.deleteById(id);
+        userRepository.findById(id).ifPresent(model -> {
+            userRepository.delete(model);
+            credentialCache.evictUser(model.getEmail());
+        });
+        principalCache.evictUser(id);
         log.info("User with id: {} deleted successfully", id);
     }
+
+    private void attachLatestTasks(List<UserDTO> users) {
+        var userIds = users.stream()
+                .map(UserDTO::getId)
+                .collect(Collectors.toList());
+        var taskIds = taskRepository.findLatestIdsByUserIds(userIds, tasksPerUser);
+        List<TaskDTO> tasks = taskIds.isEmpty()
+                ? List.of()
+                : taskMapper.mapAll(taskRepository.findViewsByIdIn(taskIds));
+
+        Map<Long, List<TaskDTO>> tasksByAuthor = new HashMap<>();
+        Map<Long, List<TaskDTO>> tasksByAssignee = new HashMap<>();
+        for (TaskDTO task : tasks) {
+            addCapped(tasksByAuthor, task.getAuthorId(), task);
+            addCapped(tasksByAssignee, task.getAssigneeId(), task);
+        }
+
+        for (UserDTO user : users) {
+            user.setTasksAsAuthor(tasksByAuthor.getOrDefault(user.getId(), new ArrayList<>()));
+            user.setTasksAsAssignee(tasksByAssignee.getOrDefault(user.getId(), new ArrayList<>()));
+        }
+    }
+
+    private void addCapped(Map<Long, List<TaskDTO>> tasksByUser, Long userId, TaskDTO task) {
+        var userTasks = tasksByUser.computeIfAbsent(userId, key -> new ArrayList<>());
+        if (userTasks.size() < tasksPerUser) {
+            userTasks.add(task);
+        }
+    }
+
+    private boolean parseExpand(String expand) {
+        if (expand == null || expand.isBlank()) {
+            return false;
+        }
+        if (!EXPAND_TASKS.equalsIgnoreCase(expand.trim())) {
+            log.error("Invalid expand value provided: {}", expand);
+            throw new IllegalArgumentException("Invalid expand value: " + expand);
+        }
+        return true;
+    }
 }
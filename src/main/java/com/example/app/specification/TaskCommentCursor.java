@@ -0,0 +1,46 @@
+package com.example.app.specification;
+
+import com.example.app.dto.taskComment.TaskCommentView;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class TaskCommentCursor {
+    private static final String SEPARATOR = "\n";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static TaskCommentCursor after(TaskCommentView comment) {
+        if (comment.createdAt() == null) {
+            throw new IllegalArgumentException("Comment with id: " + comment.id() + " has no creation date");
+        }
+        return new TaskCommentCursor(comment.createdAt(), comment.id());
+    }
+
+    public static TaskCommentCursor decode(String token) {
+        try {
+            var parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split(SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new TaskCommentCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+
+    public String encode() {
+        var raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
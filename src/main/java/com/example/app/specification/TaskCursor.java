@@ -0,0 +1,82 @@
+package com.example.app.specification;
+
+import com.example.app.dto.task.TaskDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.function.Function;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class TaskCursor {
+    private static final String SEPARATOR = "\n";
+
+    private static final Map<String, Function<TaskDTO, Object>> SORT_KEYS = Map.of(
+            "id", TaskDTO::getId,
+            "title", TaskDTO::getTitle,
+            "createdAt", TaskDTO::getCreatedAt,
+            "updatedAt", TaskDTO::getUpdatedAt
+    );
+
+    private static final Map<String, Function<String, Comparable<?>>> SORT_KEY_PARSERS = Map.of(
+            "id", Long::valueOf,
+            "title", value -> value,
+            "createdAt", LocalDateTime::parse,
+            "updatedAt", LocalDateTime::parse
+    );
+
+    private final String property;
+    private final Sort.Direction direction;
+    private final Long id;
+    private final String value;
+
+    public static boolean supports(String property) {
+        return SORT_KEYS.containsKey(property);
+    }
+
+    public static TaskCursor after(TaskDTO task, Sort.Order order) {
+        var sortKey = SORT_KEYS.get(order.getProperty()).apply(task);
+        if (sortKey == null) {
+            throw new IllegalArgumentException("Task with id: " + task.getId()
+                    + " has no value for sort property: " + order.getProperty());
+        }
+        return new TaskCursor(order.getProperty(), order.getDirection(), task.getId(), sortKey.toString());
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            var parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split(SEPARATOR, 4);
+            if (parts.length != 4 || !supports(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            var cursor = new TaskCursor(parts[0], Sort.Direction.fromString(parts[1]),
+                    Long.valueOf(parts[2]), parts[3]);
+            cursor.sortKey();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+
+    public String encode() {
+        var raw = String.join(SEPARATOR, property, direction.name(), String.valueOf(id), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Comparable<?> sortKey() {
+        return SORT_KEY_PARSERS.get(property).apply(value);
+    }
+
+    public boolean matches(Sort.Order order) {
+        return property.equals(order.getProperty()) && direction == order.getDirection();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.app.specification;
+
+import java.util.Set;
+
+/**
+ * Task filter with the status and priority name fragments already resolved to ids. A null field is not filtered on.
+ */
+public record TaskFilter(Long authorId, Long assigneeId, Set<Long> statusIds, Set<Long> priorityIds) {
+    public boolean matchesNothing() {
+        return (statusIds != null && statusIds.isEmpty()) || (priorityIds != null && priorityIds.isEmpty());
+    }
+
+    public boolean matches(Long taskAuthorId, Long taskAssigneeId, Long taskStatusId, Long taskPriorityId) {
+        return (authorId == null || authorId.equals(taskAuthorId))
+                && (assigneeId == null || assigneeId.equals(taskAssigneeId))
+                && (statusIds == null || statusIds.contains(taskStatusId))
+                && (priorityIds == null || priorityIds.contains(taskPriorityId));
+    }
+}
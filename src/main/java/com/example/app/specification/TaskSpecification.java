@@ -1,23 +1,45 @@
 package com.example.app.specification;
 
+import com.example.app.component.ReferenceDataCache;
 import com.example.app.dto.specificationDTO.TaskParamDTO;
 import com.example.app.models.Task;
-import jakarta.persistence.criteria.JoinType;
+import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Builds task filters. Every predicate compares a column of the tasks table itself (author.id, status.id and
+ * the like resolve to the foreign key columns), so a filtered query never joins and never multiplies rows.
+ */
 @Component
+@RequiredArgsConstructor
 public class TaskSpecification {
+    private final ReferenceDataCache referenceDataCache;
+
+    public TaskFilter resolve(TaskParamDTO params) {
+        var statusCont = params.getStatusCont();
+        var priorityCont = params.getPriorityCont();
+        var statusIds = statusCont == null || statusCont.isEmpty()
+                ? null
+                : referenceDataCache.findStatusIds(statusCont);
+        var priorityIds = priorityCont == null || priorityCont.isEmpty()
+                ? null
+                : referenceDataCache.findPriorityIds(priorityCont);
+        return new TaskFilter(params.getAuthorId(), params.getAssigneeId(), statusIds, priorityIds);
+    }
+
     public Specification<Task> build(TaskParamDTO params, Sort sort) {
         Specification<Task> specification = Specification.where(null);
+        var filter = resolve(params);
 
-        specification = specification.and(withAuthorId(params.getAuthorId()))
-                .and(withAssigneeId(params.getAssigneeId()))
-                .and(withStatusCont(params.getStatusCont()))
-                .and(withPriorityCont(params.getPriorityCont()));
+        specification = specification.and(withAuthorId(filter.authorId()))
+                .and(withAssigneeId(filter.assigneeId()))
+                .and(withStatusIds(filter.statusIds()))
+                .and(withPriorityIds(filter.priorityIds()));
 
         if (sort != null) {
             final Specification<Task> finalSpecification = specification;
@@ -40,10 +62,7 @@ public class TaskSpecification {
                 return criteriaBuilder.conjunction();
             }
 
-            root.join("taskComments", JoinType.LEFT);
-
             return criteriaBuilder.equal(root.get("author").get("id"), authorId);
-
         });
     }
 
@@ -53,31 +72,31 @@ public class TaskSpecification {
                 return criteriaBuilder.conjunction();
             }
 
-            root.join("taskComments", JoinType.LEFT);
-
             return criteriaBuilder.equal(root.get("assignee").get("id"), assigneeId);
         });
     }
 
-    private Specification<Task> withStatusCont(String statusCont) {
+    private Specification<Task> withStatusIds(Set<Long> statusIds) {
         return ((root, query, criteriaBuilder) -> {
-            if (statusCont == null || statusCont.isEmpty()) {
+            if (statusIds == null) {
                 return criteriaBuilder.conjunction();
             }
-            return criteriaBuilder.like(criteriaBuilder.lower(root.get("status").get("name")),
-                    "%" + statusCont.toLowerCase() + "%");
+            if (statusIds.isEmpty()) {
+                return criteriaBuilder.disjunction();
+            }
+            return root.get("status").get("id").in(statusIds);
         });
     }
 
-    private Specification<Task> withPriorityCont(String priorityCont) {
+    private Specification<Task> withPriorityIds(Set<Long> priorityIds) {
         return ((root, query, criteriaBuilder) -> {
-            if (priorityCont == null || priorityCont.isEmpty()) {
+            if (priorityIds == null) {
                 return criteriaBuilder.conjunction();
             }
-
-            return criteriaBuilder.like(criteriaBuilder.lower(root.get("priority").get("priorityName")),
-                    "%" + priorityCont.toLowerCase() + "%");
+            if (priorityIds.isEmpty()) {
+                return criteriaBuilder.disjunction();
+            }
+            return root.get("priority").get("id").in(priorityIds);
         });
     }
 }
-
@@ -0,0 +1,47 @@
+package com.example.app.specification;
+
+import com.example.app.dto.specificationDTO.UserParamDTO;
+import com.example.app.models.RoleName;
+import com.example.app.models.User;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserSpecification {
+    public Specification<User> build(UserParamDTO params) {
+        return Specification.where(withEmailCont(params.getEmailCont()))
+                .and(withNameCont(params.getNameCont()))
+                .and(withRole(params.getRole()));
+    }
+
+    private Specification<User> withEmailCont(String emailCont) {
+        return ((root, query, criteriaBuilder) -> {
+            if (emailCont == null || emailCont.isEmpty()) {
+                return criteriaBuilder.conjunction();
+            }
+            return criteriaBuilder.like(criteriaBuilder.lower(root.get("email")),
+                    "%" + emailCont.toLowerCase() + "%");
+        });
+    }
+
+    private Specification<User> withNameCont(String nameCont) {
+        return ((root, query, criteriaBuilder) -> {
+            if (nameCont == null || nameCont.isEmpty()) {
+                return criteriaBuilder.conjunction();
+            }
+            var pattern = "%" + nameCont.toLowerCase() + "%";
+            return criteriaBuilder.or(
+                    criteriaBuilder.like(criteriaBuilder.lower(root.get("firstName")), pattern),
+                    criteriaBuilder.like(criteriaBuilder.lower(root.get("lastName")), pattern));
+        });
+    }
+
+    private Specification<User> withRole(RoleName role) {
+        return ((root, query, criteriaBuilder) -> {
+            if (role == null) {
+                return criteriaBuilder.conjunction();
+            }
+            return criteriaBuilder.equal(root.join("roles").get("roleName"), role);
+        });
+    }
+}
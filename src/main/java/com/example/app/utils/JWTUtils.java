@@ -1,6 +1,9 @@
 package com.example.app.utils;
 
+import com.example.app.component.RsaKeyProperties;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
@@ -12,7 +15,8 @@ import java.time.temporal.ChronoUnit;
 @Component
 @RequiredArgsConstructor
 public class JWTUtils {
-    private JwtEncoder jwtEncoder;
+    private final JwtEncoder jwtEncoder;
+    private final RsaKeyProperties keyProperties;
 
     public String generateToken(String email) {
         Instant now = Instant.now();
@@ -22,7 +26,8 @@ public class JWTUtils {
                 .expiresAt(now.plus(1, ChronoUnit.DAYS))
                 .subject(email)
                 .build();
+        JwsHeader header = JwsHeader.with(SignatureAlgorithm.from(keyProperties.getAlgorithm())).build();
 
-        return this.jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        return this.jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
     }
 }
@@ -1,7 +1,6 @@
 package com.example.app.utils;
 
-import com.example.app.exception.ResourceNotFoundException;
-import com.example.app.repositories.UserRepository;
+import com.example.app.component.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -11,7 +10,7 @@ import org.springframework.stereotype.Component;
 @Component
 @RequiredArgsConstructor
 public class UserUtils {
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     public boolean checkCurrentUser(Long id) {
         var authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -21,11 +20,7 @@ public class UserUtils {
         }
 
         var email = authentication.getName();
-
-        var currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User with email: " + email + " not found"));
-
-        return  currentUser.getId().equals(id);
+        return principalCache.isUser(email, id);
     }
 }
 
@@ -0,0 +1,94 @@
+package com.example.app.component;
+
+import com.example.app.models.Role;
+import com.example.app.models.RoleName;
+import com.example.app.models.User;
+import com.example.app.repositories.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PrincipalCacheTest {
+    private static final String EMAIL = "cached@example.com";
+
+    private UserRepository userRepository;
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository = mock(UserRepository.class);
+        var role = new Role();
+        role.setRoleName(RoleName.USER);
+        user = new User();
+        user.setId(7L);
+        user.setEmail(EMAIL);
+        user.setPasswordDigest("digest");
+        user.setRoles(new HashSet<>(Set.of(role)));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testHitUntilTtlExpires() throws Exception {
+        var cache = new PrincipalCache(userRepository, Duration.ofMillis(100), 100);
+
+        assertThat(cache.get(EMAIL).id()).isEqualTo(7L);
+        assertThat(cache.get(EMAIL).id()).isEqualTo(7L);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+
+        Thread.sleep(250);
+        cache.get(EMAIL);
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    public void testEvictUserAgainAfterCommit() {
+        var cache = new PrincipalCache(userRepository, Duration.ofMinutes(5), 100);
+        cache.get(EMAIL);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evictUser(7L);
+        // a request loading the old row between the eviction and the commit caches it again
+        cache.get(EMAIL);
+        cache.get(EMAIL);
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.get(EMAIL);
+        verify(userRepository, times(3)).findByEmail(EMAIL);
+    }
+
+    @Test
+    public void testLoadOverlappingEvictionIsNotCached() {
+        var cache = new PrincipalCache(userRepository, Duration.ofMinutes(5), 100);
+        when(userRepository.findByEmail(EMAIL)).thenAnswer(invocation -> {
+            cache.evictUser(7L);
+            return Optional.of(user);
+        }).thenReturn(Optional.of(user));
+
+        assertThat(cache.get(EMAIL).id()).isEqualTo(7L);
+        cache.get(EMAIL);
+        cache.get(EMAIL);
+
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+}
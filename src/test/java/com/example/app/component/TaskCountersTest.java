@@ -0,0 +1,127 @@
+package com.example.app.component;
+
+import com.example.app.dto.task.TaskCount;
+import com.example.app.dto.task.TaskStamp;
+import com.example.app.models.Task;
+import com.example.app.models.TaskStatus;
+import com.example.app.repositories.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Writes are reported from inside the reconciliation's count query, the window in which a real write commits
+ * while the counting snapshot is already taken. Without a transaction the report is applied at once.
+ */
+public class TaskCountersTest {
+    private static final LocalDateTime SNAPSHOT_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private TaskRepository taskRepository;
+    private TaskCounters taskCounters;
+
+    @BeforeEach
+    public void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        taskCounters = new TaskCounters(taskRepository);
+    }
+
+    @Test
+    public void testInsertInSnapshotIsNotCountedTwice() {
+        var task = task(5L, 1L, SNAPSHOT_TIME);
+        when(taskRepository.count()).thenAnswer(invocation -> {
+            taskCounters.added(task);
+            return 1L;
+        });
+        when(taskRepository.countByStatus()).thenReturn(List.of(new TaskCount(1L, 1L)));
+        when(taskRepository.findStampsByIdIn(anyCollection())).thenReturn(List.of(new TaskStamp(5L, SNAPSHOT_TIME)));
+
+        taskCounters.reconcile();
+
+        var snapshot = taskCounters.snapshot();
+        assertThat(snapshot.total()).isEqualTo(1);
+        assertThat(snapshot.byStatus()).isEqualTo(Map.of(1L, 1L));
+    }
+
+    @Test
+    public void testInsertAddedMeanwhileIsReplayed() {
+        var task = task(5L, 1L, SNAPSHOT_TIME.plusSeconds(1));
+        when(taskRepository.count()).thenAnswer(invocation -> {
+            taskCounters.added(task);
+            return 0L;
+        });
+        when(taskRepository.findStampsByIdIn(anyCollection())).thenReturn(List.of());
+
+        taskCounters.reconcile();
+
+        var snapshot = taskCounters.snapshot();
+        assertThat(snapshot.total()).isEqualTo(1);
+        assertThat(snapshot.byStatus()).isEqualTo(Map.of(1L, 1L));
+    }
+
+    @Test
+    public void testDeleteInSnapshotIsNotReplayed() {
+        var task = task(5L, 1L, SNAPSHOT_TIME);
+        when(taskRepository.count()).thenAnswer(invocation -> {
+            taskCounters.removed(task);
+            return 0L;
+        });
+        when(taskRepository.findStampsByIdIn(anyCollection())).thenReturn(List.of());
+
+        taskCounters.reconcile();
+
+        var snapshot = taskCounters.snapshot();
+        assertThat(snapshot.total()).isZero();
+        assertThat(snapshot.byStatus()).isEmpty();
+    }
+
+    @Test
+    public void testMoveNewerThanSnapshotIsReplayed() {
+        var before = TaskCounters.Key.of(task(5L, 1L, SNAPSHOT_TIME));
+        var moved = task(5L, 2L, SNAPSHOT_TIME.plusSeconds(1));
+        when(taskRepository.count()).thenAnswer(invocation -> {
+            taskCounters.moved(before, moved);
+            return 1L;
+        });
+        when(taskRepository.countByStatus()).thenReturn(List.of(new TaskCount(1L, 1L)));
+        when(taskRepository.findStampsByIdIn(anyCollection())).thenReturn(List.of(new TaskStamp(5L, SNAPSHOT_TIME)));
+
+        taskCounters.reconcile();
+
+        var snapshot = taskCounters.snapshot();
+        assertThat(snapshot.total()).isEqualTo(1);
+        assertThat(snapshot.byStatus()).isEqualTo(Map.of(2L, 1L));
+    }
+
+    @Test
+    public void testInsertAndDeleteMeanwhileCancelOut() {
+        var task = task(5L, 1L, SNAPSHOT_TIME.plusSeconds(1));
+        when(taskRepository.count()).thenAnswer(invocation -> {
+            taskCounters.added(task);
+            taskCounters.removed(task);
+            return 0L;
+        });
+        when(taskRepository.findStampsByIdIn(anyCollection())).thenReturn(List.of());
+
+        taskCounters.reconcile();
+
+        assertThat(taskCounters.snapshot().total()).isZero();
+    }
+
+    private static Task task(Long id, Long statusId, LocalDateTime updatedAt) {
+        var status = new TaskStatus();
+        status.setId(statusId);
+        var task = new Task();
+        task.setId(id);
+        task.setStatus(status);
+        task.setUpdatedAt(updatedAt);
+        return task;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.app.config;
+
+import com.example.app.component.CredentialCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingAuthenticationProviderTest {
+    private static final String EMAIL = "user@example.com";
+
+    private AuthenticationProvider delegate;
+    private CachingAuthenticationProvider provider;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = mock(AuthenticationProvider.class);
+        when(delegate.authenticate(any())).thenAnswer(invocation -> {
+            var request = (UsernamePasswordAuthenticationToken) invocation.getArgument(0);
+            if (!"secret".equals(request.getCredentials())) {
+                throw new BadCredentialsException("Bad credentials");
+            }
+            return UsernamePasswordAuthenticationToken.authenticated(EMAIL, null,
+                    AuthorityUtils.createAuthorityList("USER"));
+        });
+        provider = new CachingAuthenticationProvider(delegate, new CredentialCache(Duration.ofMinutes(1), 100));
+    }
+
+    @Test
+    public void testRepeatedLoginIsServedFromCache() {
+        var first = provider.authenticate(login("secret"));
+        var second = provider.authenticate(login("secret"));
+
+        assertThat(second).isSameAs(first);
+        verify(delegate, times(1)).authenticate(any());
+    }
+
+    @Test
+    public void testWrongPasswordAfterCachedLoginIsRejected() {
+        provider.authenticate(login("secret"));
+
+        assertThatThrownBy(() -> provider.authenticate(login("wrong"))).isInstanceOf(BadCredentialsException.class);
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    private static UsernamePasswordAuthenticationToken login(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, password);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.app.config;
+
+import com.example.app.component.RsaKeyProperties;
+import com.example.app.utils.JWTUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JwtDecoderTest {
+    @Test
+    public void testVerifiedTokenIsServedFromCache() {
+        var delegate = mock(JwtDecoder.class);
+        when(delegate.decode("token")).thenReturn(jwt(Instant.now().plusSeconds(3600)));
+        var decoder = new CachingJwtDecoder(delegate, 100);
+
+        var first = decoder.decode("token");
+        var second = decoder.decode("token");
+
+        assertThat(second).isSameAs(first);
+        verify(delegate, times(1)).decode("token");
+    }
+
+    @Test
+    public void testExpiredTokenIsVerifiedAgain() throws Exception {
+        var delegate = mock(JwtDecoder.class);
+        when(delegate.decode("token"))
+                .thenReturn(jwt(Instant.now().plusMillis(100)))
+                .thenThrow(new JwtValidationException("Jwt expired", List.of()));
+        var decoder = new CachingJwtDecoder(delegate, 100);
+
+        decoder.decode("token");
+        Thread.sleep(250);
+
+        assertThatThrownBy(() -> decoder.decode("token")).isInstanceOf(JwtValidationException.class);
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    public void testTamperedTokenIsRejected() throws Exception {
+        var generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        var keyPair = generator.generateKeyPair();
+        var properties = new RsaKeyProperties();
+        properties.setPublicKey((RSAPublicKey) keyPair.getPublic());
+        properties.setPrivateKey((RSAPrivateKey) keyPair.getPrivate());
+        var config = new EncodersConfig(properties);
+        var decoder = config.jwtDecoder(100);
+        var token = new JWTUtils(config.jwtEncoder(), properties).generateToken("user@example.com");
+
+        assertThat(decoder.decode(token).getSubject()).isEqualTo("user@example.com");
+
+        // same header and claims as the cached token, one signature character changed
+        var at = token.length() - 10;
+        var tampered = token.substring(0, at) + (token.charAt(at) == 'A' ? 'B' : 'A') + token.substring(at + 1);
+        assertThatThrownBy(() -> decoder.decode(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    public void testEs256RoundTrip() throws Exception {
+        var generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        var keyPair = generator.generateKeyPair();
+        var properties = new RsaKeyProperties();
+        properties.setAlgorithm("ES256");
+        properties.setEcPublicKey(pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        properties.setEcPrivateKey(pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        var config = new EncodersConfig(properties);
+
+        var token = new JWTUtils(config.jwtEncoder(), properties).generateToken("user@example.com");
+        var jwt = config.jwtDecoder(100).decode(token);
+
+        assertThat(jwt.getSubject()).isEqualTo("user@example.com");
+        assertThat(jwt.getHeaders()).containsEntry("alg", "ES256");
+    }
+
+    private static Jwt jwt(Instant expiresAt) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user@example.com")
+                .issuedAt(Instant.now())
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private static ByteArrayResource pem(String type, byte[] encoded) {
+        var pem = "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(encoded)
+                + "\n-----END " + type + "-----\n";
+        return new ByteArrayResource(pem.getBytes(StandardCharsets.US_ASCII));
+    }
+}
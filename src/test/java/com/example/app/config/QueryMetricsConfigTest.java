@@ -0,0 +1,93 @@
+package com.example.app.config;
+
+import com.example.app.models.TaskStatus;
+import com.example.app.repositories.TaskStatusRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not transactional on purpose: every repository call runs in its own session, so a repeated lookup can only be
+ * answered by the second-level cache, never by the persistence context of the previous one.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+public class QueryMetricsConfigTest {
+    private static final String REGION = "task-statuses";
+    private static final String CACHED_STATUS = "secondLevelCacheStatus";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private TaskStatusRepository statusRepository;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+    private TaskStatus status;
+
+    @BeforeEach
+    public void setUp() {
+        status = new TaskStatus();
+        status.setName(CACHED_STATUS);
+        statusRepository.save(status);
+
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictEntityData(TaskStatus.class);
+        sessionFactory.getCache().evictQueryRegions();
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        statusRepository.deleteById(status.getId());
+    }
+
+    @Test
+    public void testSecondFindByIdIsServedFromCache() {
+        assertThat(statusRepository.findById(status.getId())).isPresent();
+        long hits = statistics.getCacheRegionStatistics(REGION).getHitCount();
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(statusRepository.findById(status.getId())).isPresent();
+
+        assertThat(statistics.getCacheRegionStatistics(REGION).getHitCount()).isEqualTo(hits + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+    }
+
+    @Test
+    public void testSecondDictionaryLookupIsServedFromCache() {
+        assertThat(statusRepository.findByName(CACHED_STATUS)).isPresent();
+        long queryHits = statistics.getQueryCacheHitCount();
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(statusRepository.findByName(CACHED_STATUS)).isPresent();
+
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(queryHits + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+    }
+
+    @Test
+    public void testRegionMetersAreRegistered() {
+        statusRepository.findById(status.getId());
+        statusRepository.findById(status.getId());
+
+        var ratio = meterRegistry.get("hibernate.cache.region.hit.ratio").tag("region", REGION).gauge();
+        var hits = meterRegistry.get("hibernate.cache.region.requests")
+                .tags("region", REGION, "result", "hit")
+                .functionCounter();
+
+        assertThat(hits.count()).isPositive();
+        assertThat(ratio.value()).isBetween(0.0, 1.0);
+    }
+}
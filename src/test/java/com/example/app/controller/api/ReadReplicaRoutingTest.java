@@ -0,0 +1,111 @@
+package com.example.app.controller.api;
+
+import com.example.app.dto.taskStatus.TaskStatusCreateDTO;
+import com.example.app.repositories.TaskStatusRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The replica is a second pool on the same in-memory H2 database, so reads succeed on either side and the
+ * datasource.reads counter tells which one served them.
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:testdb",
+        "datasource.replica.lag-query=SELECT 0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ReadReplicaRoutingTest {
+    private static final String WRITTEN_STATUS = "replicaRoutingStatus";
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private TaskStatusRepository statusRepository;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .defaultResponseCharacterEncoding(StandardCharsets.UTF_8)
+                .build();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        statusRepository.findByName(WRITTEN_STATUS).ifPresent(statusRepository::delete);
+    }
+
+    @Test
+    @WithMockUser(username = "reader@example.com", roles = {"ADMIN", "USER"})
+    public void testReadGoesToReplica() throws Exception {
+        var before = reads("replica");
+
+        mockMvc.perform(get("/api/statuses"))
+                .andExpect(status().isOk());
+
+        assertThat(reads("replica")).isGreaterThan(before);
+    }
+
+    @Test
+    @WithMockUser(username = "list-reader@example.com", roles = {"ADMIN", "USER"})
+    public void testTaskListGoesToReplica() throws Exception {
+        var replicaBefore = reads("replica");
+        var primaryBefore = reads("primary");
+
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk());
+
+        assertThat(reads("replica")).isEqualTo(replicaBefore);
+        assertThat(reads("primary")).isGreaterThan(primaryBefore);
+    }
+
+    @Test
+    @WithMockUser(username = "writer@example.com", roles = {"ADMIN"})
+    public void testReadAfterWriteGoesToPrimary() throws Exception {
+        var createDTO = new TaskStatusCreateDTO();
+        createDTO.setStatusName(WRITTEN_STATUS);
+
+        mockMvc.perform(post("/api/statuses")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDTO)))
+                .andExpect(status().isCreated());
+
+        var before = reads("replica");
+
+        mockMvc.perform(get("/api/statuses"))
+                .andExpect(status().isOk());
+
+        assertThat(reads("replica")).isEqualTo(before);
+        assertThat(reads("primary")).isPositive();
+    }
+
+    private double reads(String target) {
+        return meterRegistry.get("datasource.reads").tag("target", target).counter().count();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.app.controller.api;
+
+import com.example.app.component.TaskChangeStream;
+import com.example.app.dto.task.TaskChangeEvent;
+import com.example.app.dto.task.TaskChangeEvent.Action;
+import com.example.app.dto.task.TaskChangeEvent.Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Changes are published directly rather than through the services: outside a transaction they are dispatched
+ * at once, which the rolled-back transactions of the other controller tests never do.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TaskChangeStreamTest {
+    private static final Pattern EVENT_ID = Pattern.compile("^id:(\\S+)$", Pattern.MULTILINE);
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private TaskChangeStream taskChangeStream;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .defaultResponseCharacterEncoding(StandardCharsets.UTF_8)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    public void testStreamDeliversMatchingChangesAndResumes() throws Exception {
+        var stream = mockMvc.perform(get("/api/tasks/events?assigneeId=42"))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+
+        taskChangeStream.publish(new TaskChangeEvent(Entity.TASK, Action.UPDATED, 1L, null, 7L, 42L, 3L, 4L));
+        taskChangeStream.publish(new TaskChangeEvent(Entity.TASK, Action.UPDATED, 2L, null, 7L, 43L, 3L, 4L));
+        taskChangeStream.publish(new TaskChangeEvent(Entity.COMMENT, Action.CREATED, 1L, 10L, 7L, 42L, 3L, 4L));
+
+        var body = awaitEvents(stream, 2);
+        assertThat(body).contains("event:task.updated", "event:comment.created", "\"task_id\":1");
+        assertThat(body).doesNotContain("\"task_id\":2");
+
+        var matcher = EVENT_ID.matcher(body);
+        assertThat(matcher.find()).isTrue();
+        var resumed = mockMvc.perform(get("/api/tasks/events?assigneeId=42")
+                        .header("Last-Event-ID", matcher.group(1)))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+
+        var replayed = awaitEvents(resumed, 1);
+        assertThat(replayed).contains("event:comment.created", "\"comment_id\":10");
+        assertThat(replayed).doesNotContain("event:task.updated");
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    public void testStreamResetsUnknownEventId() throws Exception {
+        var stream = mockMvc.perform(get("/api/tasks/events").header("Last-Event-ID", "previous-run-5"))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+
+        assertThat(awaitEvents(stream, 1)).contains("event:reset");
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    public void testStreamResetsBacklogLargerThanBuffer() throws Exception {
+        var stream = mockMvc.perform(get("/api/tasks/events?assigneeId=77"))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+        taskChangeStream.publish(new TaskChangeEvent(Entity.TASK, Action.UPDATED, 5L, null, 7L, 77L, 3L, 4L));
+        var matcher = EVENT_ID.matcher(awaitEvents(stream, 1));
+        assertThat(matcher.find()).isTrue();
+
+        for (int i = 0; i < 300; i++) {
+            taskChangeStream.publish(new TaskChangeEvent(Entity.TASK, Action.UPDATED, 5L, null, 7L, 77L, 3L, 4L));
+        }
+
+        var resumed = mockMvc.perform(get("/api/tasks/events?assigneeId=77")
+                        .header("Last-Event-ID", matcher.group(1)))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+
+        var body = awaitEvents(resumed, 1);
+        assertThat(body).contains("event:reset");
+        assertThat(body).doesNotContain("event:task.updated");
+    }
+
+    // events are written by a sender thread, not by the request
+    private static String awaitEvents(MockHttpServletResponse response, int count) throws Exception {
+        var body = response.getContentAsString();
+        for (int attempt = 0; attempt < 100 && body.split("event:", -1).length - 1 < count; attempt++) {
+            Thread.sleep(20);
+            body = response.getContentAsString();
+        }
+        return body;
+    }
+}
@@ -45,6 +45,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -128,6 +129,32 @@ public class TaskCommentControllerTest {
         assertThatJson(body).isArray();
     }
 
+    @Test
+    @Transactional
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    public void testGetListTaskCommentsWithLimitAndCursor() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            var comment = Instancio.of(modelGenerator.getCommentModel()).create();
+            comment.setAuthor(userModel);
+            comment.setTask(taskModel);
+            commentRepository.save(comment);
+        }
+
+        var firstPage = mockMvc.perform(get("/api/tasks/" + taskModel.getId() + "/comments?limit=2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "3"))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn();
+        assertThatJson(firstPage.getResponse().getContentAsString()).isArray().hasSize(2);
+
+        var cursor = firstPage.getResponse().getHeader("X-Next-Cursor");
+        var nextPage = mockMvc.perform(get("/api/tasks/" + taskModel.getId() + "/comments?limit=2&cursor=" + cursor))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andReturn();
+        assertThatJson(nextPage.getResponse().getContentAsString()).isArray().hasSize(1);
+    }
+
     @Test
     @WithMockUser(roles = {"ADMIN", "USER"})
     @Transactional
@@ -1,22 +1,28 @@
 package com.example.app.controller.api;
 
+import com.example.app.component.OutboxRelay;
+import com.example.app.component.TaskCounters;
 import com.example.app.dto.task.TaskCreateDTO;
 import com.example.app.dto.task.TaskDTO;
 import com.example.app.dto.task.TaskUpdateDTO;
 import com.example.app.dto.task.TaskUpdateForAssigneeDTO;
 import com.example.app.exception.ResourceNotFoundException;
+import com.example.app.models.OutboxEvent;
 import com.example.app.models.RoleName;
 import com.example.app.models.Task;
 import com.example.app.models.TaskPriority;
 import com.example.app.models.TaskStatus;
 import com.example.app.models.User;
+import com.example.app.repositories.OutboxEventRepository;
 import com.example.app.repositories.RoleRepository;
 import com.example.app.repositories.TaskPriorityRepository;
 import com.example.app.repositories.TaskRepository;
 import com.example.app.repositories.TaskStatusRepository;
 import com.example.app.repositories.UserRepository;
 import com.example.app.util.ModelGenerator;
+import com.example.app.util.OutboxSinkCapture;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +31,7 @@ import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
@@ -36,7 +43,10 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
@@ -46,6 +56,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -64,6 +75,10 @@ public class TaskControllerTest {
     @Autowired
     private TaskRepository taskRepository;
     @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private OutboxRelay outboxRelay;
+    @Autowired
     private UserRepository userRepository;
     @Autowired
     private TaskStatusRepository statusRepository;
@@ -71,6 +86,10 @@ public class TaskControllerTest {
     private TaskPriorityRepository priorityRepository;
     @Autowired
     private RoleRepository roleRepository;
+    @Autowired
+    private TaskCounters taskCounters;
+    @Autowired
+    private EntityManager entityManager;
     private Task taskModel;
     private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
 
@@ -129,6 +148,126 @@ public class TaskControllerTest {
         assertThatJson(body).isArray();
     }
 
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    public void testFilterByNewlyCreatedStatus() throws Exception {
+        var name = "freshlyAddedStatus";
+        var before = mockMvc.perform(get("/api/tasks").param("statusCont", name))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThatJson(before).isArray().isEmpty();
+
+        var freshStatus = new TaskStatus();
+        freshStatus.setName(name);
+        statusRepository.save(freshStatus);
+        taskModel.setStatus(freshStatus);
+        taskRepository.save(taskModel);
+
+        var body = mockMvc.perform(get("/api/tasks").param("statusCont", name.toLowerCase()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(body).isArray().hasSize(1);
+        assertThatJson(body).inPath("$[0].title").isEqualTo(taskModel.getTitle());
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    public void testGetTaskStats() throws Exception {
+        taskCounters.reconcile();
+
+        var result = mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+        assertThatJson(body).node("total").isEqualTo(taskRepository.count());
+        assertThatJson(body).node("by_status").isObject()
+                .containsEntry(taskModel.getStatus().getName(), 1);
+        assertThatJson(body).node("by_priority").isObject()
+                .containsEntry(taskModel.getPriority().getPriorityName(), 1);
+        assertThatJson(body).node("by_assignee").isObject()
+                .containsEntry(String.valueOf(taskModel.getAssignee().getId()), 1);
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    public void testSyncTasksReturnsChangesAndTombstones() throws Exception {
+        var initial = mockMvc.perform(get("/api/tasks/sync"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(initial).node("full_resync").isEqualTo(true);
+        var initialJson = objectMapper.readTree(initial);
+        assertThat(initialJson.get("tasks").findValuesAsText("id")).contains(String.valueOf(taskModel.getId()));
+        var watermark = initialJson.get("watermark").asText();
+
+        mockMvc.perform(delete("/api/tasks/" + taskModel.getId()))
+                .andExpect(status().isNoContent());
+
+        var delta = mockMvc.perform(get("/api/tasks/sync").param("watermark", watermark))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(delta).node("full_resync").isEqualTo(false);
+        assertThatJson(delta).node("tasks").isArray().isEmpty();
+        assertThatJson(delta).node("deleted").isArray().hasSize(1);
+        assertThatJson(delta).node("deleted[0].entity").isEqualTo("task");
+        assertThatJson(delta).node("deleted[0].id").isEqualTo(taskModel.getId());
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    public void testSyncNeverSplitsRowsSharingATimestamp() throws Exception {
+        var second = copyOf(taskModel);
+        var third = copyOf(taskModel);
+        var first = LocalDateTime.now().minusMinutes(10).truncatedTo(ChronoUnit.MICROS);
+        var shared = first.plusSeconds(1);
+        stamp(first, taskModel.getId());
+        stamp(shared, second.getId(), third.getId());
+
+        // the page would end inside the group stamped at shared, so it ends before the group
+        var page = sync(first.minusSeconds(1), 2);
+        assertThatJson(page).node("has_more").isEqualTo(true);
+        assertThatJson(page).node("watermark").isEqualTo(first.toString());
+        assertThat(objectMapper.readTree(page).get("tasks").findValuesAsText("id"))
+                .containsExactly(String.valueOf(taskModel.getId()));
+
+        // the group alone is larger than the limit, so it is returned whole
+        var group = sync(first, 1);
+        assertThatJson(group).node("watermark").isEqualTo(shared.toString());
+        assertThat(objectMapper.readTree(group).get("tasks").findValuesAsText("id"))
+                .containsExactlyInAnyOrder(String.valueOf(second.getId()), String.valueOf(third.getId()));
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    public void testDeleteTaskIsRelayedFromOutbox() throws Exception {
+        OutboxSinkCapture.clear();
+        mockMvc.perform(delete("/api/tasks/" + taskModel.getId()))
+                .andExpect(status().isNoContent());
+
+        var pending = outboxEventRepository.findAll();
+        assertThat(pending).hasSize(1);
+        assertThat(pending.get(0).getEventType()).isEqualTo("task.deleted");
+        assertThat(pending.get(0).getDeliveredAt()).isNull();
+
+        outboxRelay.relay();
+
+        assertThat(OutboxSinkCapture.events()).extracting(OutboxEvent::getAggregateId)
+                .containsExactly(taskModel.getId());
+        assertThatJson(OutboxSinkCapture.events().get(0).getPayload()).node("action").isEqualTo("deleted");
+        assertThat(outboxEventRepository.findAll()).allMatch(event -> event.getDeliveredAt() != null);
+    }
+
     @Test
     @WithMockUser(roles = {"ADMIN", "USER"})
     @Transactional
@@ -147,6 +286,23 @@ public class TaskControllerTest {
                 .and(n -> n.node("status").isEqualTo(taskModel.getStatus().getName()));
     }
 
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    public void testGetTaskNotModified() throws Exception {
+        var result = mockMvc.perform(get("/api/tasks/" + taskModel.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+
+        var etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        var notModified = mockMvc.perform(get("/api/tasks/" + taskModel.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        assertThat(notModified.getResponse().getContentAsString()).isEmpty();
+    }
+
     @Test
     @WithMockUser(roles = {"ADMIN"})
     public void testCreateTask() throws Exception {
@@ -240,6 +396,35 @@ public class TaskControllerTest {
         assertThat(updatedTask.getAuthor().getEmail()).isEqualTo(taskModel.getAuthor().getEmail());
     }
 
+    @Test
+    public void testUpdateTaskForAssigneeChecksOwnershipBeforeExistence() throws Exception {
+        var updateDTO = new TaskUpdateForAssigneeDTO();
+        updateDTO.setTitle(JsonNullable.of("titleUpdate"));
+        var content = objectMapper.writeValueAsString(updateDTO);
+        var author = jwt().jwt(builder -> builder.subject(taskModel.getAuthor().getEmail()));
+
+        mockMvc.perform(put("/api/tasks/" + taskModel.getId() + "/assignee-update")
+                        .with(author)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(put("/api/tasks/" + (taskModel.getId() + 1000) + "/assignee-update")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(put("/api/tasks/" + taskModel.getId() + "/assignee-update")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andExpect(status().isOk());
+
+        assertThat(taskRepository.findById(taskModel.getId()))
+                .hasValueSatisfying(task -> assertThat(task.getTitle()).isEqualTo("titleUpdate"));
+    }
+
     @Test
     @WithMockUser(roles = {"ADMIN"})
     public void testDeleteTask() throws Exception {
@@ -250,4 +435,69 @@ public class TaskControllerTest {
 
         assertThat(taskRepository.findById(taskModel.getId())).isEmpty();
     }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    public void testBulkCreateTasks() throws Exception {
+        var valid = new TaskCreateDTO();
+        valid.setTitle("bulk title");
+        valid.setDescription("bulk description");
+        valid.setStatus(taskModel.getStatus().getName());
+        valid.setPriority(taskModel.getPriority().getPriorityName());
+        valid.setAuthorId(taskModel.getAuthor().getId());
+        valid.setAssigneeId(taskModel.getAssignee().getId());
+
+        var unknownStatus = new TaskCreateDTO();
+        unknownStatus.setTitle("bulk title");
+        unknownStatus.setDescription("bulk description");
+        unknownStatus.setStatus("missing status");
+        unknownStatus.setPriority(taskModel.getPriority().getPriorityName());
+        unknownStatus.setAuthorId(taskModel.getAuthor().getId());
+        unknownStatus.setAssigneeId(taskModel.getAssignee().getId());
+
+        var request = post("/api/tasks/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(valid, unknownStatus, new TaskCreateDTO())));
+
+        var result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+
+        assertThatJson(body).isArray().hasSize(3);
+        assertThatJson(body).node("[0].status").isEqualTo(201);
+        assertThatJson(body).node("[1].status").isEqualTo(404);
+        assertThatJson(body).node("[2].status").isEqualTo(400);
+        assertThat(taskRepository.count()).isEqualTo(2);
+    }
+
+    private String sync(LocalDateTime watermark, int limit) throws Exception {
+        return mockMvc.perform(get("/api/tasks/sync")
+                        .param("watermark", watermark.toString())
+                        .param("limit", String.valueOf(limit)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    private Task copyOf(Task task) {
+        var copy = new Task();
+        copy.setTitle(task.getTitle());
+        copy.setDescription(task.getDescription());
+        copy.setAuthor(task.getAuthor());
+        copy.setAssignee(task.getAssignee());
+        copy.setPriority(task.getPriority());
+        copy.setStatus(task.getStatus());
+        return taskRepository.save(copy);
+    }
+
+    // auditing overwrites updatedAt on save, so shared timestamps are set in bulk
+    private void stamp(LocalDateTime updatedAt, Long... taskIds) {
+        entityManager.createQuery("update Task t set t.updatedAt = :updatedAt where t.id in :ids")
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("ids", List.of(taskIds))
+                .executeUpdate();
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.app.controller.api;
 
+import com.example.app.dto.task.TaskDTO;
 import com.example.app.exception.ResourceNotFoundException;
 import com.example.app.models.RoleName;
 import com.example.app.models.Task;
@@ -10,17 +11,23 @@ import com.example.app.models.User;
 import com.example.app.repositories.RoleRepository;
 import com.example.app.repositories.TaskCommentRepository;
 import com.example.app.repositories.TaskPriorityRepository;
+import com.example.app.repositories.TaskQueryCatalog;
 import com.example.app.repositories.TaskRepository;
 import com.example.app.repositories.TaskStatusRepository;
 import com.example.app.repositories.UserRepository;
+import com.example.app.specification.TaskCursor;
 import com.example.app.util.ModelGenerator;
+import com.example.app.util.SqlStatementCapture;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -29,12 +36,16 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -63,6 +74,10 @@ public class TaskControllerTestWithParam {
     private TaskCommentRepository commentRepository;
     @Autowired
     private RoleRepository roleRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @BeforeEach
     public void setUp() {
@@ -156,6 +171,66 @@ public class TaskControllerTestWithParam {
         assertThatJson(body).isArray();
     }
 
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    public void testFilterByAuthorAndAssigneeDoesNotJoinComments() throws Exception {
+        var user = userRepository.findByEmail("test@test.com")
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        // on H2 the estimate falls back to an exact count query, which always runs
+        SqlStatementCapture.clear();
+        mockMvc.perform(get("/api/tasks?count=estimate&authorId=" + user.getId() + "&assigneeId=" + user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"));
+
+        var taskQueries = SqlStatementCapture.statements().stream()
+                .map(String::toLowerCase)
+                .filter(sql -> sql.contains(" from tasks "))
+                .toList();
+
+        assertThat(taskQueries).hasSize(2);
+        assertThat(taskQueries).noneMatch(sql -> sql.contains("task_comments"));
+        assertThat(taskQueries).filteredOn(sql -> sql.startsWith("select count"))
+                .singleElement()
+                .satisfies(sql -> assertThat(sql).doesNotContain(" join "));
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    public void testTaskListPageRunsConstantNumberOfQueries() throws Exception {
+        var request = get("/api/tasks?count=none");
+        // loads the dictionaries and anything else cached on first use
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        SqlStatementCapture.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        var twoRows = SqlStatementCapture.statements();
+
+        var template = taskRepository.findAll().get(0);
+        for (int i = 0; i < 8; i++) {
+            var task = new Task();
+            task.setTitle("page_task" + i);
+            task.setDescription("task_description");
+            task.setAuthor(template.getAuthor());
+            task.setAssignee(template.getAssignee());
+            task.setPriority(template.getPriority());
+            task.setStatus(template.getStatus());
+            taskRepository.save(task);
+        }
+
+        SqlStatementCapture.clear();
+        var page = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+        var tenRows = SqlStatementCapture.statements();
+
+        assertThatJson(page.getResponse().getContentAsString()).isArray().hasSize(10);
+        assertThat(tenRows).hasSameSizeAs(twoRows);
+        assertThat(tenRows).filteredOn(sql -> sql.toLowerCase().contains(" from tasks "))
+                .singleElement()
+                .satisfies(sql -> assertThat(sql.toLowerCase()).doesNotContain("task_comments"));
+    }
+
     @Test
     @WithMockUser(roles = {"ADMIN", "USER"})
     public void testGetListTasksWithStatusCont() throws Exception {
@@ -172,6 +247,17 @@ public class TaskControllerTestWithParam {
                         .and(n -> n.node("status").asString().containsIgnoringCase("completed")));
     }
 
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    public void testGetListTasksWithUnknownStatusCont() throws Exception {
+        var result = mockMvc.perform(get("/api/tasks?statusCont=no-such-status"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "0"))
+                .andReturn();
+
+        assertThatJson(result.getResponse().getContentAsString()).isArray().isEmpty();
+    }
+
     @Test
     @WithMockUser(roles = {"ADMIN", "USER"})
     public void testGetListTasksWithPriorityCont() throws Exception {
@@ -187,4 +273,140 @@ public class TaskControllerTestWithParam {
                 .allSatisfy(element -> assertThatJson(element)
                         .and(n -> n.node("priority").asString().containsIgnoringCase("High")));
     }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    public void testGetListTasksWithCursor() throws Exception {
+        var firstPage = mockMvc.perform(get("/api/tasks?cursor=&sort=id,asc"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andReturn();
+
+        assertThatJson(firstPage.getResponse().getContentAsString()).isArray().hasSize(2);
+
+        var firstTask = new TaskDTO();
+        firstTask.setId(taskRepository.findAll(Sort.by("id")).get(0).getId());
+        var cursor = TaskCursor.after(firstTask, Sort.Order.asc("id")).encode();
+
+        var nextPage = mockMvc.perform(get("/api/tasks?sort=id,asc&cursor=" + cursor))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThatJson(nextPage.getResponse().getContentAsString()).isArray().hasSize(1)
+                .allSatisfy(element -> assertThatJson(element)
+                        .and(n -> n.node("title").isEqualTo("task_title2")));
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    public void testFollowCursorThroughTasksSharingCreatedAt() throws Exception {
+        var template = taskRepository.findAll().get(0);
+        for (int i = 0; i < 23; i++) {
+            var task = new Task();
+            task.setTitle("cursor_task" + i);
+            task.setDescription("task_description");
+            task.setAuthor(template.getAuthor());
+            task.setAssignee(template.getAssignee());
+            task.setPriority(template.getPriority());
+            task.setStatus(template.getStatus());
+            taskRepository.save(task);
+        }
+        // every task on the same createdAt, so only the id tie-breaker orders the pages
+        entityManager.createQuery("update Task t set t.createdAt = :createdAt")
+                .setParameter("createdAt", LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS))
+                .executeUpdate();
+
+        var seen = new ArrayList<String>();
+        var pages = 0;
+        var cursor = "";
+        while (cursor != null) {
+            var page = mockMvc.perform(get("/api/tasks").param("sort", "createdAt,desc").param("cursor", cursor))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse();
+            objectMapper.readTree(page.getContentAsString()).forEach(task -> seen.add(task.get("id").asText()));
+            cursor = page.getHeader("X-Next-Cursor");
+            pages++;
+        }
+
+        var expected = taskRepository.findAll().stream()
+                .map(task -> String.valueOf(task.getId()))
+                .toList();
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    public void testGetListTasksWithCountModes() throws Exception {
+        mockMvc.perform(get("/api/tasks?count=exact&statusCont=completed"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1"));
+
+        mockMvc.perform(get("/api/tasks?count=none"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Total-Count"));
+
+        mockMvc.perform(get("/api/tasks?count=estimate&priorityCont=High"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"))
+                .andExpect(header().doesNotExist("X-Total-Count-Estimated"));
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    public void testCatalogueSortsAvoidSpecificationFallback() throws Exception {
+        for (String property : TaskQueryCatalog.SORT_PROPERTIES) {
+            double hits = catalogCount("hit");
+            double misses = catalogCount("miss");
+
+            mockMvc.perform(get("/api/tasks?count=none").param("sort", property + ",desc"))
+                    .andExpect(status().isOk());
+
+            assertThat(catalogCount("hit")).isEqualTo(hits + 1);
+            assertThat(catalogCount("miss")).isEqualTo(misses);
+        }
+
+        double misses = catalogCount("miss");
+        var body = mockMvc.perform(get("/api/tasks?count=none&sort=description,asc"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(catalogCount("miss")).isEqualTo(misses + 1);
+        assertThatJson(body).isArray().hasSize(2);
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    public void testExportTasks() throws Exception {
+        var csv = mockMvc.perform(get("/api/tasks/export?format=csv&statusCont=completed"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andReturn();
+
+        var csvLines = csv.getResponse().getContentAsString().split("\r\n");
+        assertThat(csvLines).hasSize(2);
+        assertThat(csvLines[0]).startsWith("id,title,description,status,priority");
+
+        var ndjson = mockMvc.perform(get("/api/tasks/export?priorityCont=High"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var ndjsonLines = ndjson.getResponse().getContentAsString().split("\n");
+        assertThat(ndjsonLines).hasSize(2);
+        assertThatJson(ndjsonLines[0]).node("id").isPresent();
+
+        var createdAt = objectMapper.readTree(ndjsonLines[0]).get("createdAt").asText();
+        assertThat(createdAt).matches("\\d{2}-\\d{2}-\\d{4} \\d{2}:\\d{2}:\\d{2}");
+        var all = mockMvc.perform(get("/api/tasks/export?format=csv&priorityCont=High"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThat(all).contains("," + createdAt + ",");
+    }
+
+    private double catalogCount(String result) {
+        return meterRegistry.get("tasks.query.catalog").tag("result", result).counter().count();
+    }
 }
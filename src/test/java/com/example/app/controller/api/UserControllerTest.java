@@ -1,5 +1,7 @@
 package com.example.app.controller.api;
 
+import com.example.app.component.CredentialCache;
+import com.example.app.dto.AuthRequest;
 import com.example.app.dto.user.UserCreateDTO;
 import com.example.app.dto.user.UserUpdateDTO;
 import com.example.app.exception.ResourceNotFoundException;
@@ -20,11 +22,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
@@ -61,6 +65,10 @@ public class UserControllerTest {
     private RoleRepository roleRepository;
     @Autowired
     private RoleMapper roleMapper;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private CredentialCache credentialCache;
     private User userModel;
     private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
 
@@ -106,6 +114,25 @@ public class UserControllerTest {
         assertThatJson(body).isArray();
     }
 
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    public void testGetListUsersWithFilterAndExpand() throws Exception {
+        var result = mockMvc.perform(get("/api/users?emailCont=user@example&size=5"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+        assertThatJson(body).isArray().hasSize(1);
+        assertThatJson(body).node("[0].email").isEqualTo(userModel.getEmail());
+        assertThatJson(body).node("[0].tasks_as_author").isAbsent();
+
+        var expanded = mockMvc.perform(get("/api/users?emailCont=user@example&expand=tasks"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThatJson(expanded.getResponse().getContentAsString()).node("[0].tasks_as_author").isArray();
+    }
+
     @Test
     @WithMockUser(roles = {"ADMIN", "USER"})
     public void testGetUser() throws Exception {
@@ -193,4 +220,40 @@ public class UserControllerTest {
 
         assertThat(userRepository.findById(userModel.getId())).isEmpty();
     }
+
+    @Test
+    public void testCachedCredentialsAreEvictedOnUpdateAndDelete() throws Exception {
+        userModel.setPasswordDigest(passwordEncoder.encode("secret"));
+        userRepository.save(userModel);
+
+        login("secret").andExpect(status().isOk());
+        assertThat(credentialCache.get(userModel.getEmail(), "secret")).isNotNull();
+
+        var updateDTO = new UserUpdateDTO();
+        updateDTO.setPassword(JsonNullable.of("changed"));
+        mockMvc.perform(put("/api/users/" + userModel.getId())
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk());
+
+        assertThat(credentialCache.get(userModel.getEmail(), "secret")).isNull();
+        login("secret").andExpect(status().isUnauthorized());
+        login("changed").andExpect(status().isOk());
+        assertThat(credentialCache.get(userModel.getEmail(), "changed")).isNotNull();
+
+        mockMvc.perform(delete("/api/users/" + userModel.getId()).with(token))
+                .andExpect(status().isNoContent());
+
+        assertThat(credentialCache.get(userModel.getEmail(), "changed")).isNull();
+    }
+
+    private ResultActions login(String password) throws Exception {
+        var authRequest = new AuthRequest();
+        authRequest.setEmail(userModel.getEmail());
+        authRequest.setPassword(password);
+        return mockMvc.perform(post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(authRequest)));
+    }
 }
@@ -0,0 +1,29 @@
+package com.example.app.util;
+
+import com.example.app.component.OutboxSink;
+import com.example.app.models.OutboxEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Configuration
+public class OutboxSinkCapture {
+    private static final List<OutboxEvent> EVENTS = new CopyOnWriteArrayList<>();
+
+    @Bean
+    @Primary
+    public OutboxSink capturingOutboxSink() {
+        return EVENTS::addAll;
+    }
+
+    public static void clear() {
+        EVENTS.clear();
+    }
+
+    public static List<OutboxEvent> events() {
+        return List.copyOf(EVENTS);
+    }
+}